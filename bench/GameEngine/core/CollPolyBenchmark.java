@@ -0,0 +1,145 @@
+package GameEngine.core;
+
+import GameEngine.core.utils.Point;
+import GameEngine.exceptions.CollPolyException;
+import java.util.Random;
+
+/**
+ * Compara o SAT com o GJK entre pares de polígonos convexos, para cada
+ * combinação do número de vértices de cada polígono. Serve para escolher
+ * {@link CollPoly#SAT_MAX_VERTICES}.
+ *
+ * <p>
+ * Os pares são polígonos regulares de raio 10, com rotações aleatórias e
+ * centros a ±25 um do outro, pelo que cerca de metade colide. Cada linha
+ * mostra o tempo médio por par do melhor de várias rondas. Está no pacote
+ * da engine para chegar aos testes de pacote, mas em {@code bench}, fora do
+ * código da engine. Correr com {@code java GameEngine.core.CollPolyBenchmark
+ * [pares]}.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class CollPolyBenchmark {
+    private static final int ROUNDS = 30;
+    private static final int[] SIZES = { 3, 4, 6, 8, 12, 16, 24, 32, 48, 64, 96 };
+
+    public static void main(String[] args) throws CollPolyException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        Random random = new Random(12);
+
+        System.out.println("vertices   SAT (ns)  GJK (ns)");
+
+        for (int a = 0; a < SIZES.length; a++) {
+            for (int b = a; b < SIZES.length; b++) {
+                CollPoly[] first = new CollPoly[count];
+                CollPoly[] second = new CollPoly[count];
+
+                for (int i = 0; i < count; i++) {
+                    double x = random.nextDouble() * 2000;
+                    double y = random.nextDouble() * 2000;
+
+                    first[i] = polygon(random, SIZES[a], x, y);
+                    second[i] = polygon(random, SIZES[b], x + random.nextDouble() * 50 - 25,
+                            y + random.nextDouble() * 50 - 25);
+                }
+
+                check(first, second);
+
+                long[] best = time(() -> sat(first, second), () -> gjk(first, second));
+                double sat = best[0] / (double) count;
+                double gjk = best[1] / (double) count;
+
+                System.out.printf("%2d + %-2d  %9.1f %9.1f%s%n", SIZES[a], SIZES[b], sat, gjk,
+                        sat <= gjk ? "" : "  GJK");
+            }
+        }
+    }
+
+    private static CollPoly polygon(Random random, int sides, double x, double y) throws CollPolyException {
+        Point[] vertices = new Point[sides];
+        double start = random.nextDouble() * 2 * Math.PI;
+
+        for (int i = 0; i < sides; i++) {
+            double angle = start + 2 * Math.PI * i / sides;
+            vertices[i] = new Point(10 * Math.cos(angle), 10 * Math.sin(angle));
+        }
+
+        CollPoly collider = new CollPoly(new Transform(new Point(x, y), 0, 0, 1), vertices, sides);
+        collider.onUpdate();
+
+        return collider;
+    }
+
+    private static int sat(CollPoly[] first, CollPoly[] second) {
+        int found = 0;
+
+        for (int i = 0; i < first.length; i++) {
+            if (first[i].satColliding(second[i])) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    private static int gjk(CollPoly[] first, CollPoly[] second) {
+        int found = 0;
+
+        for (int i = 0; i < first.length; i++) {
+            if (first[i].gjkColliding(second[i])) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    private static void check(CollPoly[] first, CollPoly[] second) {
+        for (int i = 0; i < first.length; i++) {
+            if (first[i].satColliding(second[i]) != first[i].gjkColliding(second[i])) {
+                throw new IllegalStateException("SAT e GJK discordam no par " + i);
+            }
+        }
+    }
+
+    /**
+     * Melhor tempo de cada tarefa. As rondas das duas tarefas alternam, para
+     * que variações da máquina ao longo da medição afetem as duas por igual.
+     */
+    private static long[] time(Task first, Task second) {
+        long sink = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += first.run() + second.run();
+        }
+
+        long[] best = { Long.MAX_VALUE, Long.MAX_VALUE };
+
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += first.run();
+            long middle = System.nanoTime();
+            sink += second.run();
+            long end = System.nanoTime();
+
+            best[0] = Math.min(best[0], middle - start);
+            best[1] = Math.min(best[1], end - middle);
+        }
+
+        if (sink == 42) {
+            System.out.println();
+        }
+
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        int run();
+    }
+}
@@ -0,0 +1,135 @@
+package GameEngine.core.simd;
+
+import GameEngine.core.CollCircle;
+import GameEngine.core.Transform;
+import GameEngine.core.utils.Point;
+import GameEngine.exceptions.CollCircleException;
+import GameEngine.interfaces.ICollider;
+import java.util.Random;
+
+/**
+ * Compara o teste par a par de {@link ICollider#isColliding(ICollider)} com
+ * os kernels escalar e vetorial, num cenário de muitas balas pequenas.
+ *
+ * <p>
+ * Está em {@code bench}, fora do código da engine, e compila-se à parte
+ * contra as classes de {@code src}. Correr com {@code java --add-modules
+ * jdk.incubator.vector GameEngine.core.simd.CircleKernelBenchmark [pares]},
+ * com {@code src-vector} compilado; sem o módulo ou sem essa pasta só o
+ * kernel escalar é medido.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class CircleKernelBenchmark {
+    private static final int ROUNDS = 40;
+
+    public static void main(String[] args) throws CollCircleException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        Random random = new Random(16);
+
+        CollCircle[] first = new CollCircle[count];
+        CollCircle[] second = new CollCircle[count];
+        double[] ax = new double[count], ay = new double[count];
+        double[] bx = new double[count], by = new double[count];
+        double[] radius = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            // pares vizinhos, como os que a broadphase entrega
+            double x = random.nextDouble() * 2000;
+            double y = random.nextDouble() * 2000;
+
+            first[i] = circle(x, y, 2 + random.nextDouble() * 4);
+            second[i] = circle(x + random.nextDouble() * 16 - 8, y + random.nextDouble() * 16 - 8,
+                    2 + random.nextDouble() * 4);
+
+            ax[i] = first[i].getCenter().getX();
+            ay[i] = first[i].getCenter().getY();
+            bx[i] = second[i].getCenter().getX();
+            by[i] = second[i].getCenter().getY();
+            radius[i] = first[i].getRadius() + second[i].getRadius();
+        }
+
+        int[] hits = new int[count];
+        CircleKernel scalar = new ScalarCircleKernel();
+        CircleKernel best = CircleKernel.create();
+
+        int expected = perPair(first, second);
+        check(scalar, ax, ay, bx, by, radius, count, hits, expected);
+        check(best, ax, ay, bx, by, radius, count, hits, expected);
+
+        System.out.printf("%d pares, %d colidem%n", count, expected);
+
+        // cada medida repete o aquecimento para o JIT compilar o ciclo
+        report("isColliding", time(() -> perPair(first, second)), count);
+        report(scalar.name(), time(() -> scalar.overlaps(ax, ay, bx, by, radius, count, hits)), count);
+
+        if (best != scalar && !best.name().equals(scalar.name())) {
+            report(best.name(), time(() -> best.overlaps(ax, ay, bx, by, radius, count, hits)), count);
+        }
+    }
+
+    private static CollCircle circle(double x, double y, double radius) throws CollCircleException {
+        Point position = new Point(x, y);
+        CollCircle collider = new CollCircle(new Transform(position, 0, 0, 1), new Point(x, y), radius);
+        collider.onUpdate();
+
+        return collider;
+    }
+
+    private static int perPair(ICollider[] first, ICollider[] second) {
+        int found = 0;
+
+        for (int i = 0; i < first.length; i++) {
+            if (first[i].isColliding(second[i])) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    private static void check(CircleKernel kernel, double[] ax, double[] ay, double[] bx, double[] by,
+            double[] radius, int count, int[] hits, int expected) {
+        int found = kernel.overlaps(ax, ay, bx, by, radius, count, hits);
+
+        if (found != expected) {
+            throw new IllegalStateException(kernel.name() + ": " + found + " colisoes, esperadas " + expected);
+        }
+    }
+
+    private static long time(Task task) {
+        long sink = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += task.run();
+        }
+
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        if (sink == 42) {
+            System.out.println();
+        }
+
+        return best;
+    }
+
+    private static void report(String name, long nanos, int count) {
+        System.out.printf("%-14s %8.1f us  %6.2f ns/par%n", name, nanos / 1000.0, (double) nanos / count);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        int run();
+    }
+}
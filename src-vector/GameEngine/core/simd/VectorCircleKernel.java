@@ -0,0 +1,63 @@
+package GameEngine.core.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação de {@link CircleKernel} com a Vector API: cada iteração testa
+ * tantos pares quantas as pistas de {@code double} do processador (4 com AVX2,
+ * 8 com AVX-512), e só os pares que colidem são escritos em {@code hits}.
+ *
+ * <p>
+ * As operações são as mesmas do teste escalar, pela mesma ordem, pelo que os
+ * resultados são iguais bit a bit. Esta classe só é carregada por
+ * {@link CircleKernel#create()} quando o módulo {@code jdk.incubator.vector}
+ * está presente.
+ * </p>
+ *
+ * <p>
+ * Fica numa pasta de código à parte ({@code src-vector}), compilada só quando
+ * se quer o kernel vetorial, para que a compilação normal de {@code src} não
+ * precise do módulo incubado.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+class VectorCircleKernel extends CircleKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int overlaps(double[] ax, double[] ay, double[] bx, double[] by, double[] radius, int count,
+            int[] hits) {
+        int found = 0;
+        int lanes = SPECIES.length();
+        int upper = SPECIES.loopBound(count);
+        int i = 0;
+
+        for (; i < upper; i += lanes) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, bx, i).sub(DoubleVector.fromArray(SPECIES, ax, i));
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, by, i).sub(DoubleVector.fromArray(SPECIES, ay, i));
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, i);
+
+            long mask = dx.mul(dx).add(dy.mul(dy)).compare(VectorOperators.LT, r.mul(r)).toLong();
+
+            // um bit por pista que colide
+            while (mask != 0) {
+                hits[found++] = i + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+            }
+        }
+
+        return overlapsScalar(ax, ay, bx, by, radius, i, count, hits, found);
+    }
+
+    @Override
+    public String name() {
+        return "vector x" + SPECIES.length();
+    }
+}
@@ -98,6 +98,8 @@ public class Game {
 
         ui.showColliders(showColliders);
 
+        engine.setFixedStep(13, 5);
+
         engine.run();
     }
 
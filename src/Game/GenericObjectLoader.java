@@ -8,12 +8,15 @@ import GameEngine.core.ColliderLoader;
 import GameEngine.core.GameObject;
 import GameEngine.core.Shape;
 import GameEngine.core.Transform;
+import GameEngine.core.WorldStore;
 import GameEngine.core.utils.Point;
 import GameEngine.exceptions.ColliderLoaderException;
 import GameEngine.gui.loader.ImageLoader;
+import GameEngine.gui.loader.TextureAtlas;
 import GameEngine.interfaces.ICollider;
 import GameEngine.interfaces.IGameEngine;
 import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IPrefab;
 import GameEngine.interfaces.IShape;
 import GameEngine.interfaces.ITransform;
 import java.awt.event.KeyEvent;
@@ -24,6 +27,9 @@ public class GenericObjectLoader{
     ObjectManager objectManager;
     ScreenManager screenManager;
     IGameEngine engine;
+
+    // todos os frames carregados sao juntados nas mesmas paginas
+    private final TextureAtlas atlas = new TextureAtlas();
     
     public GenericObjectLoader(){}
 
@@ -34,6 +40,28 @@ public class GenericObjectLoader{
     }
 
     public IGameObject loadObject(ObjectConfig config) 
+    {
+        IGameObject go = build(config, config.position, loadSprites(config), true);
+
+        this.objectManager.add(go);
+
+        return go;
+    }
+
+    /**
+     * Prefab com a configuracao dada, para objetos que aparecem e desaparecem
+     * muitas vezes (inimigos, projeteis). As imagens sao lidas uma so vez e
+     * partilhadas por todas as instancias; cada instancia e criada por
+     * engine.prefabs() e volta ao pool quando e destruida.
+     */
+    public IPrefab prefab(ObjectConfig config)
+    {
+        final List<BufferedImage> sprites = loadSprites(config);
+
+        return () -> build(config, new Point(config.position.getX(), config.position.getY()), sprites, false);
+    }
+
+    private IGameObject build(ObjectConfig config, Point position, List<BufferedImage> sprites, boolean enabled)
     {
         final List<Integer> keySet = List.of(
             KeyEvent.VK_W,
@@ -49,39 +77,54 @@ public class GenericObjectLoader{
 
         //TODO: HARDCODED
 
-        ITransform transform = transformBuilder(config.position);
+        ITransform transform = transformBuilder(position);
 
         ICollider collider = null;
         try {
-            collider = ColliderLoader.newGenericCollider(transform, config.size);
+            collider = ColliderLoader.newGenericCollider(transform, config.size, world());
             collider.onUpdate();
         } catch (ColliderLoaderException e) {
             e.printStackTrace();
         }
 
-        IShape shape = shapeBuilder(config.path, config.size);
+        IShape shape = new Shape(sprites, -config.size[0]/2, -config.size[1]/2);
 
         GenericPlayerBehaviour behaviour = new GenericPlayerBehaviour(this.objectManager, this.screenManager, keySet, animFrames);
         
-        IGameObject go = new GameObject(config.name, transform, collider, shape, behaviour, engine);
+        IGameObject go = new GameObject(config.name, transform, collider, shape, behaviour, engine, enabled);
 
         behaviour.gameObject(go);
 
-        this.objectManager.add(go);
-
         return go;
     }
 
-    private static ITransform transformBuilder(Point position){
+    private ITransform transformBuilder(Point position){
+        WorldStore world = world();
+
+        // os transforms ficam nos arrays da engine, que os percorre em bloco
+        if (world != null) {
+            return world.newTransform(position, 1, 0, 1);
+        }
+
         return new Transform(position, 1, 0, 1);
     }
 
-    private static IShape shapeBuilder(List<String> paths, int[] size){
-        List<BufferedImage> sprites = ImageLoader.loadImages(paths);
+    private WorldStore world(){
+        return this.engine == null ? null : this.engine.world();
+    }
+
+    private List<BufferedImage> loadSprites(ObjectConfig config){
+        List<BufferedImage> sprites;
+
+        if (config.sheet != null) {
+            sprites = ImageLoader.loadSheet(config.sheet.path, config.sheet.columns, config.sheet.rows, config.sheet.count);
+        } else {
+            sprites = ImageLoader.loadImages(config.path);
+        }
 
-        sprites = ImageLoader.resizeAll(sprites, size[0], size[1]);
+        sprites = ImageLoader.resizeAll(sprites, config.size[0], config.size[1]);
 
-        return new Shape(sprites, -size[0]/2, -size[1]/2);
+        return this.atlas.addAll(sprites);
     }
 
     public void setupTransform(Point position, IGameObject object){
@@ -165,7 +165,6 @@ public class GenericPlayerBehaviour extends Behaviour {
         */
 
         transform.scale(screenManager.getZoom() - transform.scale());
-        this.gameObject().collider().onUpdate();
 
         if (Math.abs(movement.getX()) > 0 || Math.abs(movement.getY()) > 0) this.showWalking();
         else this.showIdle();
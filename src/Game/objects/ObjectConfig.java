@@ -8,4 +8,7 @@ public class ObjectConfig {
     public Point position;
     public int[] size;
     public List<String> path;
+
+    // em alternativa a path: frames numa grelha de uma so imagem
+    public SheetConfig sheet;
 }
@@ -0,0 +1,8 @@
+package Game.objects;
+
+public class SheetConfig {
+    public String path;
+    public int columns;
+    public int rows;
+    public int count;
+}
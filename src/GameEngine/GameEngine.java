@@ -1,16 +1,33 @@
 package GameEngine;
 
+import GameEngine.core.CommandBuffer;
+import GameEngine.core.ContactCache;
+import GameEngine.core.LayerMatrix;
+import GameEngine.core.Narrowphase;
+import GameEngine.core.ObjectStore;
+import GameEngine.core.ParallelUpdate;
+import GameEngine.core.PrefabPool;
+import GameEngine.core.RaycastHit;
+import GameEngine.core.RenderLayers;
+import GameEngine.core.SnapshotRing;
+import GameEngine.core.TimeOfImpact;
+import GameEngine.core.WorldStore;
+import GameEngine.core.broadphase.DynamicAabbTree;
+import GameEngine.core.broadphase.PairList;
+import GameEngine.core.broadphase.SpatialHashBroadphase;
+import GameEngine.core.broadphase.SweepAndPruneBroadphase;
+import GameEngine.core.physics.PhysicsWorld;
 import GameEngine.exceptions.NullUserInterfaceException;
+import GameEngine.interfaces.IBroadphase;
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IConcurrentBehaviour;
 import GameEngine.interfaces.IGameEngine;
 import GameEngine.interfaces.IGameObject;
 import GameEngine.interfaces.IGameUI;
 import GameEngine.interfaces.IInputEvent;
 import GameEngine.interfaces.IInputManager;
-import java.util.ArrayList;
-import java.util.HashMap;
+import GameEngine.interfaces.ITransform;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Classe que representa um {@code GameEngine} e que implementa a interface
@@ -24,8 +41,29 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * @version 10-05-2025
  */
 public class GameEngine implements IGameEngine {
-    private final List<IGameObject> enabled;
-    private final List<IGameObject> disabled;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ObjectStore enabled;
+    private final ObjectStore disabled;
+
+    private final RenderLayers layers;
+
+    private final IBroadphase broadphase;
+    private final PairList pairs;
+    private final Narrowphase narrowphase;
+    private final DynamicAabbTree queryTree;
+    private final LayerMatrix layerMatrix;
+    private final ContactCache contacts;
+    private final TimeOfImpact timeOfImpact;
+    // candidatos de cada varrimento continuo
+    private IGameObject[] candidates;
+    private final PhysicsWorld physics;
+    private final WorldStore world;
+    private final PrefabPool prefabs;
+
+    private final CommandBuffer commands;
+    private final ParallelUpdate parallelUpdate;
+    private boolean ticking;
 
     private IGameUI gui;
 
@@ -34,58 +72,90 @@ public class GameEngine implements IGameEngine {
     private long delta;
 
     private long lastLoop;
+    private long presentNanos;
+
+    private long tickMillis;
+    private long tickNanos;
+    private int maxCatchUpTicks;
 
     public GameEngine(IGameUI ui) throws NullUserInterfaceException {
-        this.enabled = new CopyOnWriteArrayList<>(); // pode causar problemas de desempenho
-        this.disabled = new CopyOnWriteArrayList<>(); // talvez posso haver outra maneira? idk
+        this(ui, new SpatialHashBroadphase());
+    }
+
+    /**
+     * Cria uma engine que usa a estratégia de broadphase indicada para gerar os
+     * pares candidatos a colisão. A escolha depende da cena: por exemplo, um
+     * {@link SweepAndPruneBroadphase} para cenas densas e quase estáticas, ou um
+     * {@link SpatialHashBroadphase} com um tamanho de célula adequado aos
+     * objetos do jogo.
+     *
+     * @param ui         Interface gráfica onde os objetos são desenhados.
+     * @param broadphase Broadphase usada na deteção de colisões.
+     * @throws NullUserInterfaceException Se {@code ui} for {@code null}.
+     */
+    public GameEngine(IGameUI ui, IBroadphase broadphase) throws NullUserInterfaceException {
+        this.enabled = new ObjectStore();
+        this.disabled = new ObjectStore();
+
+        this.layers = new RenderLayers();
+
+        this.layerMatrix = new LayerMatrix();
+        this.broadphase = broadphase;
+        this.broadphase.setLayerMatrix(this.layerMatrix);
+        this.pairs = new PairList();
+        this.narrowphase = new Narrowphase();
+        this.queryTree = new DynamicAabbTree();
+        this.contacts = new ContactCache();
+        this.timeOfImpact = new TimeOfImpact();
+        this.candidates = new IGameObject[64];
+        this.physics = new PhysicsWorld();
+        this.world = new WorldStore();
+        this.prefabs = new PrefabPool(this);
+
+        this.commands = new CommandBuffer();
+        this.parallelUpdate = new ParallelUpdate();
+        this.ticking = false;
 
         if (ui == null) {
             throw new NullUserInterfaceException();
         }
 
         this.gui = ui;
+        this.gui.setObjects(this.layers);
 
         this.running = false;
         this.delta = 13;
         this.lastLoop = -1;
+        this.presentNanos = 0;
+
+        this.tickMillis = 0;
+        this.tickNanos = 0;
+        this.maxCatchUpTicks = 5;
     }
 
     @Override
     public void addEnabled(IGameObject go) {
-        this.enabled.add(go);
-
-        go.behaviour().onInit();
+        this.request(CommandBuffer.ADD_ENABLED, go);
     }
 
     @Override
     public void addDisabled(IGameObject go) {
-        this.disabled.add(go);
-
-        go.behaviour().onInit();
+        this.request(CommandBuffer.ADD_DISABLED, go);
     }
 
     @Override
     public void enable(IGameObject go) {
-        this.disabled.remove(go);
-        this.enabled.add(go);
-
-        go.behaviour().onEnable();
+        this.request(CommandBuffer.ENABLE, go);
     }
 
     @Override
     public void disable(IGameObject go) {
-        this.enabled.remove(go);
-        this.disabled.add(go);
-
-        go.behaviour().onDisable();
+        this.request(CommandBuffer.DISABLE, go);
     }
 
     @Override
     public void destroy(IGameObject go) {
-        this.enabled.remove(go);
-        this.disabled.remove(go);
-
-        go.behaviour().onDestroy();
+        this.request(CommandBuffer.DESTROY, go);
     }
 
     @Override
@@ -98,6 +168,154 @@ public class GameEngine implements IGameEngine {
         return this.disabled.contains(go);
     }
 
+    /**
+     * Durante um tick os pedidos ficam em espera no {@link CommandBuffer} e só
+     * são aplicados no fim do tick; fora de um tick são aplicados logo.
+     */
+    private void request(byte op, IGameObject go) {
+        // durante a atualizacao paralela cada thread escreve no seu buffer
+        CommandBuffer local = this.parallelUpdate.buffer();
+
+        if (local != null) {
+            local.add(op, go);
+        } else if (this.ticking) {
+            this.commands.add(op, go);
+        } else {
+            this.apply(op, go);
+        }
+    }
+
+    private void apply(byte op, IGameObject go) {
+        // um objeto destruido que volta a entrar recebe espaco novo no
+        // armazenamento, em vez de usar o que ja foi dado a outro
+        if (op == CommandBuffer.ADD_ENABLED || op == CommandBuffer.ADD_DISABLED || op == CommandBuffer.ENABLE) {
+            this.world.reattach(go);
+        }
+
+        switch (op) {
+            case CommandBuffer.ADD_ENABLED:
+                this.disabled.remove(go);
+                if (this.addToEnabled(go)) {
+                    go.behaviour().onInit();
+                }
+                break;
+
+            case CommandBuffer.ADD_DISABLED:
+                this.removeFromEnabled(go);
+                if (this.disabled.add(go)) {
+                    go.behaviour().onInit();
+                }
+                break;
+
+            case CommandBuffer.ENABLE:
+                this.disabled.remove(go);
+                if (this.addToEnabled(go)) {
+                    go.behaviour().onEnable();
+                }
+                break;
+
+            case CommandBuffer.DISABLE:
+                this.removeFromEnabled(go);
+                if (this.disabled.add(go)) {
+                    go.behaviour().onDisable();
+                }
+                break;
+
+            case CommandBuffer.DESTROY:
+                if (this.removeFromEnabled(go) | this.disabled.remove(go)) {
+                    go.behaviour().onDestroy();
+                    // objetos de um prefab voltam ao pool para serem
+                    // reutilizados; os outros devolvem o seu espaco ao
+                    // armazenamento
+                    if (!this.prefabs.release(go)) {
+                        this.world.release(go);
+                    }
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private boolean addToEnabled(IGameObject go) {
+        if (!this.enabled.add(go)) {
+            return false;
+        }
+
+        synchronized (this.layers) {
+            this.enabled.attach(go.slot(), this.layers.insert(go));
+        }
+
+        this.broadphase.add(go);
+
+        if (go.collider() != null) {
+            this.enabled.proxy(go.slot(), this.queryTree.insert(go));
+        }
+
+        return true;
+    }
+
+    private boolean removeFromEnabled(IGameObject go) {
+        if (!this.enabled.contains(go)) {
+            return false;
+        }
+
+        synchronized (this.layers) {
+            this.layers.delete((RenderLayers.Entry) this.enabled.attachment(go.slot()));
+        }
+
+        this.broadphase.remove(go);
+        this.contacts.forget(go);
+
+        int proxy = this.enabled.proxy(go.slot());
+        if (proxy >= 0) {
+            this.queryTree.remove(proxy);
+        }
+
+        return this.enabled.remove(go);
+    }
+
+    /**
+     * Atualiza os baldes de renderização dos objetos que mudaram de camada
+     * durante o tick.
+     */
+    private void refreshLayers() {
+        synchronized (this.layers) {
+            for (int i = 0; i < this.enabled.size(); i++) {
+                this.layers.refresh((RenderLayers.Entry) this.enabled.attachment(i));
+            }
+        }
+    }
+
+    /**
+     * Acompanha na árvore das consultas os colliders que se moveram durante o
+     * tick; os que continuam dentro da sua caixa alargada não mexem na árvore.
+     */
+    private void refreshQueryTree() {
+        for (int i = 0; i < this.enabled.size(); i++) {
+            int proxy = this.enabled.proxy(i);
+
+            if (proxy >= 0) {
+                this.queryTree.update(proxy);
+            }
+        }
+    }
+
+    private void flushCommands() {
+        // os callbacks chamados aqui ja correm fora do tick, por isso pedidos
+        // feitos por eles sao aplicados imediatamente
+        for (int i = 0; i < this.commands.size(); i++) {
+            if (this.commands.op(i) == CommandBuffer.RUN) {
+                this.commands.action(i).run();
+            } else {
+                this.apply(this.commands.op(i), this.commands.target(i));
+            }
+        }
+
+        this.commands.clear();
+    }
+
     @Override
     public List<IGameObject> getEnabled() {
         return this.enabled;
@@ -108,31 +326,140 @@ public class GameEngine implements IGameEngine {
         return this.disabled;
     }
 
-    private Map<IGameObject, List<IGameObject>> getCollisionMap() {
-        int n = this.enabled.size();
+    private void detectCollisions() {
+        this.contacts.begin();
+
+        this.sweepContinuous();
+
+        // so os pares escolhidos pela broadphase chegam a narrowphase
+        this.broadphase.findPairs(this.pairs);
+
+        this.narrowphase.run(this.pairs, this.physics, this.contacts);
+
+        // os pares entre objetos fixos nao passam pela broadphase
+        this.contacts.keepResting(this.physics, this.layerMatrix);
+        this.contacts.end();
+    }
+
+    /**
+     * Varre os colliders contínuos que se moveram neste tick, desde a pose do
+     * início do tick até à atual, e recua cada um até ao primeiro impacto.
+     *
+     * <p>
+     * Os candidatos vêm da árvore das consultas, atualizada antes com as poses
+     * atuais: a caixa varrida é alargada pelo maior deslocamento de um objeto
+     * neste tick, o que garante que contém a pose atual de qualquer objeto cuja
+     * caixa varrida a toque. O custo é O(n) para atualizar a árvore mais
+     * O(log n + k) por objeto contínuo, em vez de O(n) por objeto contínuo.
+     * </p>
+     */
+    private void sweepContinuous() {
+        // maior deslocamento de um objeto neste tick, em cada eixo
+        double moveX = 0, moveY = 0;
+        boolean sweeping = false;
+
+        for (int i = 0; i < this.enabled.size(); i++) {
+            IGameObject go = this.enabled.get(i);
+            ITransform t = go.transform();
+            double dx = Math.abs(t.getPosition().getX() - t.getPreviousPosition().getX());
+            double dy = Math.abs(t.getPosition().getY() - t.getPreviousPosition().getY());
+
+            moveX = Math.max(moveX, dx);
+            moveY = Math.max(moveY, dy);
+
+            sweeping |= go.collider() != null && go.collider().isContinuous() && (dx != 0 || dy != 0);
+        }
+
+        if (!sweeping) {
+            return;
+        }
+
+        this.refreshQueryTree();
+
+        for (int i = 0; i < this.enabled.size(); i++) {
+            IGameObject go = this.enabled.get(i);
+            ICollider c = go.collider();
+
+            if (c == null || !c.isContinuous()) {
+                continue;
+            }
+
+            ITransform t = go.transform();
+            double dx = t.getPosition().getX() - t.getPreviousPosition().getX();
+            double dy = t.getPosition().getY() - t.getPreviousPosition().getY();
+
+            if (dx == 0 && dy == 0) {
+                continue;
+            }
+
+            // caixa varrida pelo movimento do tick
+            double minX = c.minX() - Math.max(dx, 0), maxX = c.maxX() - Math.min(dx, 0);
+            double minY = c.minY() - Math.max(dy, 0), maxY = c.maxY() - Math.min(dy, 0);
+
+            int count = this.sweepCandidates(minX - moveX, minY - moveY, maxX + moveX, maxY + moveY,
+                    this.layerMatrix.mask(t.layer()));
+
+            double first = 1;
+            IGameObject hit = null;
+            double nx = 0, ny = 0;
+
+            for (int j = 0; j < count; j++) {
+                IGameObject other = this.candidates[j];
+                ICollider oc = other.collider();
 
-        Map<IGameObject, List<IGameObject>> collisionMap = new HashMap<>();
+                if (other == go || !this.layerMatrix.canCollide(t.layer(), other.transform().layer())) {
+                    continue;
+                }
+
+                ITransform ot = other.transform();
+                double odx = ot.getPosition().getX() - ot.getPreviousPosition().getX();
+                double ody = ot.getPosition().getY() - ot.getPreviousPosition().getY();
 
-        for (int i = 0; i < n; i++) {
-            IGameObject goA = this.enabled.get(i);
+                if (oc.minX() - Math.max(odx, 0) > maxX || oc.maxX() - Math.min(odx, 0) < minX
+                        || oc.minY() - Math.max(ody, 0) > maxY || oc.maxY() - Math.min(ody, 0) < minY) {
+                    continue;
+                }
 
-            for (int j = i + 1; j < n; j++) {
-                IGameObject goB = this.enabled.get(j);
+                double toi = this.timeOfImpact.compute(c, dx, dy, oc, odx, ody);
 
-                if (goA.isColliding(goB)) {
-                    collisionMap.computeIfAbsent(goA, ignored -> new ArrayList<>()).add(goB);
-                    collisionMap.computeIfAbsent(goB, ignored -> new ArrayList<>()).add(goA);
+                if (toi < first) {
+                    first = toi;
+                    hit = other;
+                    nx = this.timeOfImpact.normalX();
+                    ny = this.timeOfImpact.normalY();
                 }
             }
-        }
 
-        return collisionMap;
+            if (hit == null) {
+                continue;
+            }
+
+            t.getPosition().set(
+                    t.getPosition().getX() - dx * (1 - first),
+                    t.getPosition().getY() - dy * (1 - first));
+            c.onUpdate();
+
+            // os objetos ficaram encostados: conta como contacto
+            this.contacts.touch(go, hit);
+            this.physics.addSweptContact(go, hit, nx, ny);
+        }
     }
 
-    private void notifyCollisions(Map<IGameObject, List<IGameObject>> collisionMap) {
-        for (Map.Entry<IGameObject, List<IGameObject>> entry : collisionMap.entrySet()) {
-            entry.getKey().behaviour().onCollision(entry.getValue());
+    /**
+     * Preenche {@link #candidates} com os objetos da árvore das consultas que
+     * tocam na caixa, aumentando o buffer enquanto ele encher.
+     *
+     * @return Número de candidatos.
+     */
+    private int sweepCandidates(double minX, double minY, double maxX, double maxY, long layerMask) {
+        int count = this.queryTree.overlapBox(minX, minY, maxX, maxY, layerMask, this.candidates);
+
+        while (count == this.candidates.length) {
+            this.candidates = new IGameObject[this.candidates.length * 2];
+            count = this.queryTree.overlapBox(minX, minY, maxX, maxY, layerMask, this.candidates);
         }
+
+        return count;
     }
 
     private IInputEvent getUserInput() {
@@ -143,44 +470,174 @@ public class GameEngine implements IGameEngine {
         return this.gui.getInputManager();
     }
 
+    private void tick(long deltaTime, IInputEvent input) {
+        IGameObject go;
+
+        this.ticking = true;
+
+        try {
+            this.physics.begin();
+
+            // os transforms do armazenamento sao copiados de uma vez; para esses
+            // a chamada por objeto ja nao tem nada para fazer
+            this.world.storePrevious();
+
+            for (int i = 0; i < this.enabled.size(); i++) {
+                this.enabled.get(i).transform().storePrevious();
+            }
+
+            this.updateConcurrent(deltaTime, input);
+
+            for (int i = 0; i < this.enabled.size(); i++) {
+                go = this.enabled.get(i);
+
+                if (!(go.behaviour() instanceof IConcurrentBehaviour)) {
+                    go.behaviour().onUpdate(deltaTime, input);
+                }
+
+                // corpos a dormir que ninguem moveu mantem o collider como estava
+                if (this.physics.integrate(go, deltaTime)) {
+                    go.collider().onUpdate();
+                }
+            }
+
+            this.detectCollisions();
+            this.physics.solve(deltaTime);
+            this.refreshQueryTree();
+            this.contacts.dispatch(this.enabled);
+        } finally {
+            this.ticking = false;
+        }
+
+        this.flushCommands();
+        this.refreshLayers();
+    }
+
+    /**
+     * Atualiza em paralelo os objetos com comportamento concorrente e repete,
+     * pela ordem dos objetos, os pedidos que fizeram.
+     */
+    private void updateConcurrent(long deltaTime, IInputEvent input) {
+        for (int i = 0; i < this.enabled.size(); i++) {
+            if (this.enabled.get(i).behaviour() instanceof IConcurrentBehaviour) {
+                this.parallelUpdate.add(this.enabled.get(i));
+            }
+        }
+
+        if (this.parallelUpdate.size() == 0) {
+            return;
+        }
+
+        try {
+            this.parallelUpdate.run(deltaTime, input);
+        } finally {
+            this.parallelUpdate.replay(this.commands);
+        }
+    }
+
+    private void render(double alpha) {
+        if (this.gui != null) {
+            SnapshotRing snapshots = this.gui.snapshots();
+
+            // o estado e copiado depois do ultimo tick do frame; a partir
+            // daqui quem desenha ja nao precisa dos objetos
+            if (snapshots != null) {
+                snapshots.acquire().capture(this.layers, alpha, snapshots.capturesColliders());
+                snapshots.publish();
+            }
+
+            this.gui.render(alpha);
+            this.presentNanos = this.gui.presentNanos();
+        }
+    }
+
     @Override
     public void run() {
         this.running = true;
 
-        IInputEvent input;
+        if (this.tickNanos > 0) {
+            this.runFixedStep();
+        } else {
+            this.runVariableStep();
+        }
+    }
+
+    /**
+     * Ciclo com passo variável: cada frame executa um tick com o tempo real do
+     * frame anterior e dorme apenas o que falta para completar {@code delta}.
+     */
+    private void runVariableStep() {
+        long start, elapsed;
+
+        while (this.running) {
+            start = System.nanoTime();
+
+            this.tick(this.lastLoop, this.getUserInput());
+            this.render(1.0);
+
+            this.getUserInputManager().clearRelease();
+
+            elapsed = System.nanoTime() - start;
+
+            this.delayNanos(this.frameNanos() - elapsed);
+
+            this.lastLoop = (System.nanoTime() - start) / NANOS_PER_MILLI;
+        }
+    }
 
-        Map<IGameObject, List<IGameObject>> collisions;
+    /**
+     * Ciclo com passo fixo: o tempo real é acumulado e consumido em ticks de
+     * duração constante. O resto do acumulador define o fator de interpolação
+     * usado na renderização, pelo que o custo de desenhar não altera a
+     * velocidade da simulação. Os frames são desenhados ao ritmo de
+     * {@code delta}, independentemente dos ticks, pelo que com ticks mais
+     * longos do que um frame há vários frames interpolados entre dois ticks.
+     */
+    private void runFixedStep() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long now;
+        int ticks;
 
-        long start;
+        IInputEvent input;
 
         while (this.running) {
-            start = System.currentTimeMillis();
+            now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
 
             input = this.getUserInput();
 
-            for (IGameObject go : this.enabled) {
-                go.behaviour().onUpdate(this.lastLoop, input);
-                go.collider().onUpdate();
+            for (ticks = 0; accumulator >= this.tickNanos && ticks < this.maxCatchUpTicks; ticks++) {
+                this.tick(this.tickMillis, input);
+                accumulator -= this.tickNanos;
             }
 
-            collisions = getCollisionMap();
-            this.notifyCollisions(collisions);
-
-            if (this.gui != null) {
-                this.gui.setObjects(this.sortedObjects());
-                this.gui.render();
+            // se nao conseguimos recuperar, descartamos o atraso em vez de
+            // acumular cada vez mais ticks nos frames seguintes
+            if (accumulator >= this.tickNanos) {
+                accumulator %= this.tickNanos;
             }
 
-            if (this.delta > 0) {
-                this.delay(this.delta);
-            }
+            this.render((double) accumulator / this.tickNanos);
 
             this.getUserInputManager().clearRelease();
 
-            this.lastLoop = System.currentTimeMillis() - start;
+            this.delayNanos(this.frameNanos() - (System.nanoTime() - now));
         }
     }
 
+    /**
+     * Duração de um frame: {@code delta}, mas nunca menos do que a interface
+     * demorou a apresentar o último frame. Quando o frame é desenhado fora
+     * deste ciclo (pela thread do Swing ou por uma thread de desenho), esse
+     * tempo não entra no tempo medido do frame, e sem este limite o ciclo
+     * produziria frames mais depressa do que é possível mostrá-los.
+     */
+    private long frameNanos() {
+        return Math.max(Math.max(0, this.delta) * NANOS_PER_MILLI, this.presentNanos);
+    }
+
     public void stop() {
         this.running = false;
     }
@@ -190,17 +647,82 @@ public class GameEngine implements IGameEngine {
         this.delta = deltaTime;
     }
 
-    private void delay(long millis) {
+    @Override
+    public void setLayerCollision(int layerA, int layerB, boolean collide) {
+        this.layerMatrix.setCollision(layerA, layerB, collide);
+    }
+
+    @Override
+    public PhysicsWorld physics() {
+        return this.physics;
+    }
+
+    @Override
+    public WorldStore world() {
+        return this.world;
+    }
+
+    @Override
+    public void defer(Runnable action) {
+        CommandBuffer local = this.parallelUpdate.buffer();
+
+        if (local != null) {
+            local.add(action);
+        } else if (this.ticking) {
+            this.commands.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    @Override
+    public PrefabPool prefabs() {
+        return this.prefabs;
+    }
+
+    @Override
+    public boolean raycast(double ox, double oy, double dx, double dy, double maxDistance, long layerMask,
+            RaycastHit hit) {
+        return this.queryTree.raycast(ox, oy, dx, dy, maxDistance, layerMask, hit);
+    }
+
+    @Override
+    public int overlapCircle(double x, double y, double radius, long layerMask, IGameObject[] results) {
+        return this.queryTree.overlapCircle(x, y, radius, layerMask, results);
+    }
+
+    @Override
+    public int overlapBox(double minX, double minY, double maxX, double maxY, long layerMask,
+            IGameObject[] results) {
+        return this.queryTree.overlapBox(minX, minY, maxX, maxY, layerMask, results);
+    }
+
+    @Override
+    public IGameObject nearest(double x, double y, double maxDistance, long layerMask, IGameObject exclude) {
+        return this.queryTree.nearest(x, y, maxDistance, layerMask, exclude);
+    }
+
+    @Override
+    public void setFixedStep(long stepMillis, int maxCatchUpTicks) {
+        this.tickMillis = Math.max(0, stepMillis);
+        this.tickNanos = this.tickMillis * NANOS_PER_MILLI;
+        this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+    }
+
+    @Override
+    public long presentNanos() {
+        return this.presentNanos;
+    }
+
+    private void delayNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+
         try {
-            Thread.sleep(millis);
+            Thread.sleep(nanos / NANOS_PER_MILLI, (int) (nanos % NANOS_PER_MILLI));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
-
-    private List<IGameObject> sortedObjects() {
-        List<IGameObject> sorted = new ArrayList<>(this.enabled);
-        sorted.sort((a, b) -> Integer.compare(a.transform().layer(), b.transform().layer()));
-        return sorted;
-    }
 }
@@ -56,4 +56,16 @@ public abstract class Behaviour implements IBehaviour {
     @Override
     public void onCollision(List<IGameObject> go) {
     }
+
+    @Override
+    public void onCollisionEnter(IGameObject other) {
+    }
+
+    @Override
+    public void onCollisionStay(IGameObject other) {
+    }
+
+    @Override
+    public void onCollisionExit(IGameObject other) {
+    }
 }
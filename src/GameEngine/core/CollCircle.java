@@ -1,7 +1,6 @@
 package GameEngine.core;
 
 import GameEngine.core.utils.Point;
-import GameEngine.core.utils.Vector;
 import GameEngine.exceptions.CollCircleException;
 import GameEngine.interfaces.ICollider;
 import GameEngine.interfaces.ITransform;
@@ -14,9 +13,9 @@ import java.awt.geom.Ellipse2D;
  * 
  * <p>
  * Um {@link CollCircle} é definido por um ponto central e um raio, e implementa
- * os métodos necessários para verificar colisões, realizar transformações
- * (como translação, escala e rotação), e representar graficamente o colisor
- * como um círculo.
+ * os métodos necessários para verificar colisões e representar graficamente o
+ * colisor como um círculo. O centro e o raio acompanham a posição e a escala
+ * do {@code ITransform}.
  * </p>
  * 
  * @see ICollider
@@ -34,6 +33,9 @@ public class CollCircle extends Collider {
     private final Point center;
     private double radius;
 
+    // raio com escala 1
+    private final double localRadius;
+
     public CollCircle(ITransform transform, Point center, double radius) throws CollCircleException {
         super(transform);
 
@@ -46,7 +48,10 @@ public class CollCircle extends Collider {
         }
 
         this.radius = radius;
+        this.localRadius = radius;
         this.center = center;
+
+        this.updateBounds();
     }
 
     public Point getCenter() {
@@ -57,30 +62,20 @@ public class CollCircle extends Collider {
         return this.radius;
     }
 
-    public Point centroid() {
-        return new Point(
-                this.center.getX(),
-                this.center.getY());
-    }
-
-    public void translation(Vector v) {
-        this.center.move(v);
-    }
-
-    public void scale(double scale) {
-        this.radius *= scale;
-
-        if (this.radius < 0) {
-            this.radius = 0.0;
-        }
-    }
-
-    public void rotate(double angle) {
-        return;
+    void applyMatrix(double[] m) {
+        // o centro local e a origem, e a rotacao nao altera um circulo
+        this.center.set(m[2], m[5]);
+        this.radius = this.localRadius * Math.sqrt(m[0] * m[0] + m[3] * m[3]);
     }
 
     public boolean isColliding(CollCircle other) {
-        return (other.getCenter().dist(this.getCenter()) < other.getRadius() + this.getRadius());
+        // entre dois circulos o teste exato ja e o teste dos circulos envolventes;
+        // compara-se o quadrado da distancia, como no CircleKernel
+        double dx = other.getCenter().getX() - this.getCenter().getX();
+        double dy = other.getCenter().getY() - this.getCenter().getY();
+        double r = other.getRadius() + this.getRadius();
+
+        return dx * dx + dy * dy < r * r;
     }
 
     public boolean isColliding(CollPoly other) {
@@ -91,6 +86,17 @@ public class CollCircle extends Collider {
         return other.isColliding((CollCircle) this);
     }
 
+    void updateBounds() {
+        this.centerX = this.center.getX();
+        this.centerY = this.center.getY();
+        this.boundingRadius = this.radius;
+
+        this.minX = this.centerX - this.radius;
+        this.minY = this.centerY - this.radius;
+        this.maxX = this.centerX + this.radius;
+        this.maxY = this.centerY + this.radius;
+    }
+
     public Ellipse2D getShape() {
         return new Ellipse2D.Double(
                 this.center.getX() - this.radius,
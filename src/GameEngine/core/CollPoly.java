@@ -11,7 +11,6 @@ import static java.lang.Math.abs;
 
 import java.awt.Polygon;
 
-import java.util.ArrayList;
 
 /**
  * Classe que representa um polígono utilizado para deteção de colisões.
@@ -20,9 +19,15 @@ import java.util.ArrayList;
  * segmentos (arestas), garantindo que não há interseções ou colinearidade que
  * tornem o polígono inválido.
  * 
- * Implementa múltiplas operações geométricas, incluindo cálculo de centroide,
- * translação, escala, rotação e deteção de colisões com círculos e outros
- * polígonos.
+ * Implementa múltiplas operações geométricas, incluindo cálculo de centroide
+ * e deteção de colisões com círculos e outros polígonos.
+ * 
+ * Os vértices recebidos na construção são guardados em coordenadas locais,
+ * relativas ao seu centroide, e nunca são alterados; os vértices no mundo são
+ * regenerados a partir deles com a matriz do {@code ITransform}. Os vértices
+ * no mundo ficam em arrays de {@code double} contíguos (partilhados com
+ * outros polígonos, se forem criados por um {@link WorldStore}), e os
+ * {@code Point} de {@link #getVertices()} são apenas vistas sobre eles.
  * 
  * @see Point
  * @see Segment
@@ -39,11 +44,76 @@ import java.util.ArrayList;
 public class CollPoly extends Collider {
     private static final int MIN_NUM_OF_POINTS = 3;
 
+    // o SAT e mais rapido que o GJK enquanto o menor dos dois poligonos nao
+    // passar deste numero de vertices (ver bench/GameEngine/core/CollPolyBenchmark)
+    static final int SAT_MAX_VERTICES = 32;
+
+    // entradas da cache de eixos separadores (potencia de 2)
+    private static final int SAT_HINTS = 4;
+
     private final int vertexNum;
-    private final Point[] vertices;
     private final Segment[] edges;
 
+    // vertices no mundo, seguidos em xs/ys a partir de base; os pontos de
+    // vertices sao vistas sobre estes arrays
+    private double[] xs, ys;
+    private int base;
+    // armazenamento que criou o poligono, ou null
+    WorldStore store;
+    private final Point[] vertices;
+
+    // geometria local, relativa ao centroide, e distancia maxima ao centroide
+    private final double[] localX, localY;
+    private final double localRadius;
+
+    // normais exteriores das arestas no espaco local e no mundo
+    private final double[] localNormalX, localNormalY;
+    private final double[] normalX, normalY;
+    private final boolean convex;
+
+    // ultimo eixo separador por par: (hash do outro << 32) | eixo
+    private final long[] satHints;
+
+    /**
+     * Vértice no mundo guardado nos arrays do polígono. Lê os arrays através
+     * do polígono, para que continue válido se os vértices mudarem de sítio
+     * ({@link #relocate(double[], double[], int)}).
+     */
+    private final class Vertex extends Point {
+        private final int i;
+
+        private Vertex(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public double getX() {
+            return CollPoly.this.xs[CollPoly.this.base + this.i];
+        }
+
+        @Override
+        public double getY() {
+            return CollPoly.this.ys[CollPoly.this.base + this.i];
+        }
+
+        @Override
+        public void set(double x, double y) {
+            CollPoly.this.xs[CollPoly.this.base + this.i] = x;
+            CollPoly.this.ys[CollPoly.this.base + this.i] = y;
+        }
+    }
+
     public CollPoly(ITransform transform, Point[] vertices, int num) throws CollPolyException {
+        this(transform, vertices, num, new double[Math.max(num, 0)], new double[Math.max(num, 0)], 0);
+    }
+
+    /**
+     * Cria um polígono cujos vértices no mundo ficam nos arrays indicados, a
+     * partir da posição {@code base}. Usado pelo {@link WorldStore} para
+     * guardar os vértices de vários polígonos seguidos.
+     */
+    CollPoly(ITransform transform, Point[] vertices, int num, double[] xs, double[] ys, int base)
+            throws CollPolyException {
         super(transform);
 
         if (num < MIN_NUM_OF_POINTS) {
@@ -51,7 +121,16 @@ public class CollPoly extends Collider {
         }
 
         this.vertexNum = num;
-        this.vertices = vertices;
+        this.xs = xs;
+        this.ys = ys;
+        this.base = base;
+        this.vertices = new Point[num];
+
+        for (int i = 0; i < num; i++) {
+            this.vertices[i] = new Vertex(i);
+            this.vertices[i].set(vertices[i].getX(), vertices[i].getY());
+        }
+
         this.edges = new Segment[this.vertexNum];
 
         for (int i = 0; i < this.vertexNum; i++) {
@@ -72,6 +151,75 @@ public class CollPoly extends Collider {
                 this.vertices[0])) {
             throw new CollPolyException("Polygon have collinear vertices");
         }
+
+        // o centroide inicial passa a ser a origem da geometria local
+        Point c = this.calcCentroid();
+        double radius2 = 0;
+
+        this.localX = new double[this.vertexNum];
+        this.localY = new double[this.vertexNum];
+
+        for (int i = 0; i < this.vertexNum; i++) {
+            this.localX[i] = this.vertices[i].getX() - c.getX();
+            this.localY[i] = this.vertices[i].getY() - c.getY();
+
+            radius2 = Math.max(radius2, this.localX[i] * this.localX[i] + this.localY[i] * this.localY[i]);
+        }
+
+        this.localRadius = Math.sqrt(radius2);
+        this.centerX = c.getX();
+        this.centerY = c.getY();
+        this.boundingRadius = this.localRadius;
+
+        this.localNormalX = new double[this.vertexNum];
+        this.localNormalY = new double[this.vertexNum];
+        this.normalX = new double[this.vertexNum];
+        this.normalY = new double[this.vertexNum];
+
+        // normais exteriores: o lado depende do sentido dos vertices
+        double side = this.calcAreaShoelace() > 0 ? 1 : -1;
+
+        for (int i = 0; i < this.vertexNum; i++) {
+            int next = (i + 1) % this.vertexNum;
+            double ex = this.localX[next] - this.localX[i];
+            double ey = this.localY[next] - this.localY[i];
+            double len = Math.sqrt(ex * ex + ey * ey);
+
+            this.localNormalX[i] = this.normalX[i] = side * ey / len;
+            this.localNormalY[i] = this.normalY[i] = -side * ex / len;
+        }
+
+        this.convex = this.checkConvex();
+        this.satHints = new long[SAT_HINTS];
+
+        this.updateBounds();
+    }
+
+    /**
+     * Um polígono simples é convexo se todas as viragens entre arestas
+     * consecutivas tiverem o mesmo sentido.
+     */
+    private boolean checkConvex() {
+        int sign = 0;
+
+        for (int i = 0; i < this.vertexNum; i++) {
+            double turn = this.vertices[i].calcOrientation(
+                    this.vertices[(i + 1) % this.vertexNum],
+                    this.vertices[(i + 2) % this.vertexNum]);
+            int s = turn > 0 ? 1 : -1;
+
+            if (sign != 0 && s != sign) {
+                return false;
+            }
+
+            sign = s;
+        }
+
+        return true;
+    }
+
+    public boolean isConvex() {
+        return this.convex;
     }
 
     public Point[] getVertices() {
@@ -90,6 +238,28 @@ public class CollPoly extends Collider {
         return vertices[i];
     }
 
+    double[] packedX() {
+        return this.xs;
+    }
+
+    int packedBase() {
+        return this.base;
+    }
+
+    /**
+     * Passa a guardar os vértices no mundo nos arrays indicados, a partir da
+     * posição {@code base}, copiando os atuais. Usado pelo {@link WorldStore}
+     * quando liberta ou volta a dar espaço ao polígono.
+     */
+    void relocate(double[] xs, double[] ys, int base) {
+        System.arraycopy(this.xs, this.base, xs, base, this.vertexNum);
+        System.arraycopy(this.ys, this.base, ys, base, this.vertexNum);
+
+        this.xs = xs;
+        this.ys = ys;
+        this.base = base;
+    }
+
     public Segment[] getArrestas() {
         return this.edges;
     }
@@ -128,7 +298,7 @@ public class CollPoly extends Collider {
         return (s1 - s2) / 2.0;
     }
 
-    public Point centroid() {
+    private Point calcCentroid() {
         double centX = 0, centY = 0;
         double area = calcAreaShoelace(); // calcula se a area relativa (pode ser + ou -)
 
@@ -148,77 +318,75 @@ public class CollPoly extends Collider {
         return new Point(centX, centY);
     }
 
-    public void translation(Vector vetor) {
-        // aqui apenas é necessario mover os pontos, porque as arestas têm
-        // referencias para os pontos
-        for (int i = 0; i < this.vertexNum; i++) {
-            this.vertices[i].move(vetor);
-        }
-    }
+    void applyMatrix(double[] m) {
+        double[] xs = this.xs, ys = this.ys;
 
-    public void scale(double escala) {
-        Point original = this.centroid(); // guardamos a posicao original
+        for (int i = 0, k = this.base; i < this.vertexNum; i++, k++) {
+            xs[k] = m[0] * this.localX[i] + m[1] * this.localY[i] + m[2];
+            ys[k] = m[3] * this.localX[i] + m[4] * this.localY[i] + m[5];
+        }
 
-        this.translation(new Vector( // movemos o poligono para (0,0), assim é mais facil de escalar
-                original.getX() * -1,
-                original.getY() * -1));
+        // a parte linear e rotacao vezes escala; a escala sai na normalizacao
+        double scale = Math.sqrt(m[0] * m[0] + m[3] * m[3]);
 
-        for (int i = 0; i < this.vertexNum; i++) {
-            Point atual = this.vertices[i];
-            atual.move(new Vector(
-                    (atual.getX() * escala) - atual.getX(),
-                    (atual.getY() * escala) - atual.getY()));
+        if (scale > 0) {
+            for (int i = 0; i < this.vertexNum; i++) {
+                this.normalX[i] = (m[0] * this.localNormalX[i] + m[1] * this.localNormalY[i]) / scale;
+                this.normalY[i] = (m[3] * this.localNormalX[i] + m[4] * this.localNormalY[i]) / scale;
+            }
         }
 
-        this.translation(new Vector(original)); // mete se outra vez na posicao original
+        this.centerX = m[2];
+        this.centerY = m[5];
+        this.boundingRadius = this.localRadius * scale;
     }
 
-    public void rotate(double angulo) {
-        double rads = Math.toRadians(angulo); // as funcoes trigonometricas usam rads
-
-        Point centroide = this.centroid(); // os pontos serao rotacionados tendo o centroide como centro
-
-        for (int i = 0; i < this.vertexNum; i++) {
-            Point atual = this.vertices[i];
-
-            double xp = atual.getX() - centroide.getX();
-            double yp = atual.getY() - centroide.getY();
+    public Point farthest(Vector d) {
+        return this.vertices[this.farthestIndex(d.getX(), d.getY())];
+    }
 
-            double xn = xp * Math.cos(rads) - yp * Math.sin(rads);
-            double yn = xp * Math.sin(rads) + yp * Math.cos(rads);
+    /**
+     * Índice do vértice mais distante na direção {@code (dx, dy)}.
+     */
+    private int farthestIndex(double dx, double dy) {
+        double[] xs = this.xs, ys = this.ys;
+        int position = 0;
+        double best = xs[this.base] * dx + ys[this.base] * dy;
 
-            xp = xn + centroide.getX(); // estes dois passos penso que poderiam ser simplificados, mas dessa forma nao
-            yp = yn + centroide.getY(); // seguiriamos a formula do prof
+        for (int i = 1, k = this.base + 1; i < this.vertexNum; i++, k++) {
+            double dot = xs[k] * dx + ys[k] * dy;
 
-            atual.move(new Vector( // calcula se o deslocamento desse ponto e cria se um vetor com base nisso
-                    xp - atual.getX(),
-                    yp - atual.getY()));
+            if (dot > best) {
+                best = dot;
+                position = i;
+            }
         }
-    }
 
-    private Point suporte(CollPoly A, CollPoly B, Vector d) {
-        Point suporteA = A.farthest(d);
-        Point suporteB = B.farthest(d.neg());
-        return suporteA.sub(suporteB);
+        return position;
     }
 
-    public Point farthest(Vector d) {
-        double dotP = -10;
-        int position = 0;
-        for (int i = 0; i < vertices.length; i++) {
-            Vector v = new Vector(vertices[i]);
-            if (i == 0)
-                dotP = v.dotProduct(d);
-            else if (v.dotProduct(d) > dotP) {
-                dotP = v.dotProduct(d);
-                position = i;
-            }
-        }
-        return vertices[position];
+    /**
+     * Abcissa do vértice {@code i} no mundo, lida diretamente dos arrays do
+     * polígono.
+     *
+     * @param i Índice do vértice, entre {@code 0} e
+     *          {@code getNumVertices() - 1}.
+     * @return Coordenada {@code x} do vértice.
+     */
+    public double vertexX(int i) {
+        return this.xs[this.base + i];
     }
 
-    private double checkDirection(Vector ab, Vector d) {
-        return ab.dotProduct(d);
+    /**
+     * Ordenada do vértice {@code i} no mundo, lida diretamente dos arrays do
+     * polígono.
+     *
+     * @param i Índice do vértice, entre {@code 0} e
+     *          {@code getNumVertices() - 1}.
+     * @return Coordenada {@code y} do vértice.
+     */
+    public double vertexY(int i) {
+        return this.ys[this.base + i];
     }
 
     public boolean checkInside(Point p) {
@@ -251,109 +419,240 @@ public class CollPoly extends Collider {
         return (intersecCount % 2 == 1);
     }
 
+    /**
+     * Teste de colisão entre dois polígonos.
+     *
+     * <p>
+     * Entre polígonos convexos é usado o SAT, que só precisa das normais
+     * exteriores das arestas (já calculadas) e termina no primeiro eixo
+     * separador; só quando os dois polígonos são grandes, ou algum é côncavo,
+     * é usado o GJK. Medido com o {@code CollPolyBenchmark} da pasta
+     * {@code bench}: pares de polígonos regulares de raio 10 e centros a ±25
+     * (JDK 17, mediana de 5 execuções, cada uma o melhor de 30 rondas):
+     * </p>
+     *
+     * <pre>
+     * vértices  SAT (ns)  GJK (ns)
+     *  4 + 4       43        70
+     *  8 + 8       97       154
+     * 12 + 12     185       269
+     * 24 + 24     293       417
+     * 32 + 32     376       501
+     * 16 + 96     457       677
+     * 32 + 96     712       789
+     * 48 + 48     621       686
+     * 48 + 64     781       758
+     * 48 + 96    1011       927
+     * 64 + 64     832       809
+     * 96 + 96    1381      1136
+     * </pre>
+     *
+     * <p>
+     * Enquanto o menor dos dois tiver até {@link #SAT_MAX_VERTICES} vértices o
+     * SAT é claramente mais rápido, por maior que seja o outro. A partir de 48
+     * a vantagem desaparece: o GJK ganha assim que o outro polígono passa dos
+     * 48 vértices, e em 48 + 48 os dois ficam a menos de 10% um do outro, com o
+     * vencedor a mudar entre execuções e versões do JDK.
+     * </p>
+     */
     public boolean isColliding(CollPoly p) {
-        final double TOLERANCE = 1e-9;
-        final Point zero = new Point(0, 0);
+        if (!this.boundsOverlap(p)) {
+            return false;
+        }
+
+        if (this.convex && p.convex && Math.min(this.vertexNum, p.vertexNum) <= SAT_MAX_VERTICES) {
+            return this.satColliding(p);
+        }
 
-        ArrayList<Point> simplex = new ArrayList<>(3);
-        Vector d = new Vector(1, 0);
-        Vector[] pds;
+        return this.gjkColliding(p);
+    }
 
-        for (int its = 0; its < 10; its++) {
-            boolean valid = false;
-            Vector suporte = (Vector) suporte(this, p, d);
+    /**
+     * Teste SAT entre dois polígonos convexos, usando como eixos as normais
+     * exteriores das arestas de ambos. O último eixo que separou cada
+     * par é guardado numa pequena cache e testado primeiro na chamada
+     * seguinte, já que pares próximos mas separados tendem a continuar
+     * separados pelo mesmo eixo.
+     */
+    boolean satColliding(CollPoly p) {
+        int key = System.identityHashCode(p);
+        int slot = key & (SAT_HINTS - 1);
+        long hint = this.satHints[slot];
+
+        // eixo >= 0 e uma aresta deste poligono, eixo < 0 uma aresta de p
+        if ((int) (hint >>> 32) == key) {
+            int axis = (int) hint;
+
+            if (axis >= 0 && axis < this.vertexNum && separatedBy(this, axis, p)) {
+                return false;
+            }
 
-            if (simplex.size() >= 3)
-                simplex.removeFirst();
+            if (axis < 0 && -axis - 1 < p.vertexNum && separatedBy(p, -axis - 1, this)) {
+                return false;
+            }
+        }
 
-            simplex.add(suporte);
-            Vector AO = (Vector) simplex.getFirst().neg();
+        for (int i = 0; i < this.vertexNum; i++) {
+            if (separatedBy(this, i, p)) {
+                this.satHints[slot] = ((long) key << 32) | (i & 0xFFFFFFFFL);
+                return false;
+            }
+        }
 
-            if (suporte.equals(zero)) {
-                return true;
+        for (int i = 0; i < p.vertexNum; i++) {
+            if (separatedBy(p, i, this)) {
+                this.satHints[slot] = ((long) key << 32) | ((-i - 1) & 0xFFFFFFFFL);
+                return false;
             }
+        }
 
-            // Simplex -> Ponto
-            if (simplex.size() == 1) {
-                if (suporte.dotProduct(d) <= 0)
-                    return false;
+        return true;
+    }
 
-                pds = (simplex.getFirst().sub(zero)).perpendicularDirections();
-                d = pds[0];
+    /**
+     * Verifica se a aresta {@code i} de {@code a} separa os polígonos, isto é,
+     * se todos os vértices de {@code b} estão do lado de fora da reta da
+     * aresta. Com normais exteriores e polígonos convexos basta testar este
+     * lado, e o teste termina no primeiro vértice de {@code b} que não esteja
+     * fora.
+     */
+    private static boolean separatedBy(CollPoly a, int i, CollPoly b) {
+        double nx = a.normalX[i];
+        double ny = a.normalY[i];
+        double edge = a.xs[a.base + i] * nx + a.ys[a.base + i] * ny;
+        double[] xs = b.xs, ys = b.ys;
+
+        for (int k = b.base, end = b.base + b.vertexNum; k < end; k++) {
+            if (xs[k] * nx + ys[k] * ny <= edge) {
+                return false;
             }
+        }
 
-            // Simplex -> SegmentoReta
-            if (simplex.size() == 2) {
-                if (simplex.get(0).equals(simplex.get(1)))
-                    return false;
+        return true;
+    }
 
-                Segment sr = new Segment(simplex.get(0), simplex.get(1));
+    /**
+     * Teste GJK entre dois polígonos (considerando o seu invólucro convexo).
+     *
+     * <p>
+     * O simplex (no máximo um triângulo da diferença de Minkowski) é guardado
+     * em variáveis locais, pelo que o teste não aloca memória. Cada iteração
+     * tem de encontrar um ponto de suporte mais próximo da origem do que o
+     * simplex atual; quando isso deixa de acontecer os polígonos estão
+     * separados. Como a diferença de Minkowski tem no máximo
+     * {@code n + m} vértices, o número de iterações é limitado por esse valor.
+     * </p>
+     */
+    boolean gjkColliding(CollPoly p) {
+        final double TOLERANCE = 1e-9;
 
-                if (sr.intercept(zero)) {
-                    return true;
-                }
+        // simplex: a e o ponto mais recente, b e c os anteriores
+        double ax, ay, bx = 0, by = 0, cx = 0, cy = 0;
+        int size;
 
-                Vector vetor = simplex.get(1).sub(simplex.get(0));
-                pds = vetor.perpendicularDirections();
+        double dx = this.centerX - p.centerX;
+        double dy = this.centerY - p.centerY;
 
-                for (Vector pd : pds) {
-                    double direction = checkDirection(pd, AO);
-                    if (!valid && direction > 0) {
-                        valid = true;
-                        d = pd;
-                    }
-                }
-                if (!valid)
-                    return false;
+        if (dx * dx + dy * dy < TOLERANCE) {
+            dx = 1;
+            dy = 0;
+        }
+
+        int i = this.farthestIndex(dx, dy);
+        int j = p.farthestIndex(-dx, -dy);
+
+        ax = this.vertexX(i) - p.vertexX(j);
+        ay = this.vertexY(i) - p.vertexY(j);
+        size = 1;
+
+        dx = -ax;
+        dy = -ay;
+
+        for (int its = this.vertexNum + p.vertexNum; its > 0; its--) {
+            if (dx * dx + dy * dy < TOLERANCE) {
+                // a origem esta sobre o simplex
+                return true;
             }
 
-            // Simplex -> Triângulo
-            if (simplex.size() == 3) {
-                double max = 0;
+            i = this.farthestIndex(dx, dy);
+            j = p.farthestIndex(-dx, -dy);
 
-                // 3 pontos colineares
-                if (abs(simplex.getFirst().calcOrientation(simplex.get(1), simplex.get(2))) < TOLERANCE)
-                    return false;
+            double sx = this.vertexX(i) - p.vertexX(j);
+            double sy = this.vertexY(i) - p.vertexY(j);
 
-                // Origem dentro do simplex
-                CollPoly t = null;
+            double reach = sx * dx + sy * dy;
 
-                try {
-                    t = new CollPoly(null, simplex.toArray(new Point[0]), 3);
-                } catch (CollPolyException e) {
-                    System.exit(0);
-                }
+            // o novo ponto nao passa a origem, ou nao avanca em relacao ao simplex
+            if (reach < 0 || reach - (ax * dx + ay * dy) <= TOLERANCE) {
+                return false;
+            }
 
-                // Triangulo t = new Triangulo(simplex);
-                if (t.checkInside(zero)) {
-                    return true;
-                }
+            cx = bx;
+            cy = by;
+            bx = ax;
+            by = ay;
+            ax = sx;
+            ay = sy;
+            size++;
+
+            double abx = bx - ax, aby = by - ay;
 
-                // Novo ponto no simplex
-                for (int i = 0; i < simplex.size(); i++) {
-                    Point a = simplex.get(i);
-                    Point b = simplex.get((i + 1) % simplex.size());
-
-                    Vector vetor = b.sub(a);
-                    pds = vetor.perpendicularDirections();
-
-                    for (Vector pd : pds) {
-                        double direction = checkDirection(pd, AO);
-                        if (direction > max) {
-                            max = direction;
-                            d = pd;
-                        }
-                    }
+            if (size == 2) {
+                // direcao perpendicular a ab, virada para a origem
+                dx = -aby;
+                dy = abx;
+
+                if (dx * -ax + dy * -ay < 0) {
+                    dx = -dx;
+                    dy = -dy;
                 }
 
-                if (max <= 0)
-                    return false;
+                continue;
+            }
+
+            double acx = cx - ax, acy = cy - ay;
+
+            // perpendiculares de ab e ac viradas para fora do triangulo
+            double abPx = -aby, abPy = abx;
+
+            if (abPx * acx + abPy * acy > 0) {
+                abPx = -abPx;
+                abPy = -abPy;
+            }
+
+            double acPx = -acy, acPy = acx;
+
+            if (acPx * abx + acPy * aby > 0) {
+                acPx = -acPx;
+                acPy = -acPy;
+            }
+
+            if (abPx * -ax + abPy * -ay > 0) {
+                // a origem esta do lado de ab: descarta c
+                size = 2;
+                dx = abPx;
+                dy = abPy;
+            } else if (acPx * -ax + acPy * -ay > 0) {
+                // a origem esta do lado de ac: descarta b
+                bx = cx;
+                by = cy;
+                size = 2;
+                dx = acPx;
+                dy = acPy;
+            } else {
+                // a origem esta dentro do triangulo
+                return true;
             }
         }
+
         return false;
     }
 
     public boolean isColliding(CollCircle circle) {
+        if (!this.boundsOverlap(circle)) {
+            return false;
+        }
+
         Point center = circle.getCenter();
         double radius = circle.getRadius();
 
@@ -386,6 +685,20 @@ public class CollPoly extends Collider {
         return other.isColliding((CollPoly) this);
     }
 
+    void updateBounds() {
+        double[] xs = this.xs, ys = this.ys;
+
+        this.minX = this.maxX = xs[this.base];
+        this.minY = this.maxY = ys[this.base];
+
+        for (int k = this.base + 1, end = this.base + this.vertexNum; k < end; k++) {
+            this.minX = Math.min(this.minX, xs[k]);
+            this.minY = Math.min(this.minY, ys[k]);
+            this.maxX = Math.max(this.maxX, xs[k]);
+            this.maxY = Math.max(this.maxY, ys[k]);
+        }
+    }
+
     public Polygon getShape() {
         int[] x = new int[this.vertexNum];
         int[] y = new int[this.vertexNum];
@@ -1,7 +1,6 @@
 package GameEngine.core;
 
 import GameEngine.core.utils.Point;
-import GameEngine.core.utils.Vector;
 import GameEngine.interfaces.ICollider;
 import GameEngine.interfaces.ITransform;
 import java.awt.Shape;
@@ -22,7 +21,14 @@ import java.awt.Shape;
 public abstract class Collider implements ICollider {
     private final ITransform transform;
 
-    double lastAngle, lastScale;
+    // versao do transform com que a geometria foi calculada pela ultima vez
+    private long version;
+
+    // caixa envolvente e circulo envolvente, recalculados em onUpdate()
+    double minX, minY, maxX, maxY;
+    double centerX, centerY, boundingRadius;
+
+    private boolean continuous;
 
     /**
      * Construtor que cria uma instância de um {@code Collider}.
@@ -31,36 +37,97 @@ public abstract class Collider implements ICollider {
      */
     public Collider(ITransform transform) {
         this.transform = transform;
-
-        this.lastAngle = 0;
-        this.lastScale = 1;
+        this.version = -1;
     }
-    
+
+    /**
+     * Só recalcula a geometria se o {@code ITransform} tiver mudado desde a
+     * última chamada, pelo que chamar este método num objeto parado custa
+     * apenas a comparação das versões.
+     */
     public void onUpdate() {
-        if (!this.transform.getPosition().equals(this.centroid())) {
-            this.translation(new Vector(
-                    this.transform.getPosition().getX() - this.centroid().getX(),
-                    this.transform.getPosition().getY() - this.centroid().getY()));
+        long current = this.transform.version();
+
+        if (current == this.version) {
+            return;
         }
 
-        this.rotate(this.transform.angle() - this.lastAngle);
-        this.scale(this.transform.scale() / this.lastScale);
+        this.version = current;
+        this.applyMatrix(this.transform.matrix());
+        this.updateBounds();
+    }
+
+    /**
+     * Regenera a geometria no mundo a partir da geometria local (centrada no
+     * centroide e nunca alterada), numa só passagem pela matriz do
+     * {@code ITransform}. Como parte sempre da geometria local, não acumula
+     * erros de arredondamento entre ticks.
+     *
+     * @param m Matriz 2x3 {@code {m00, m01, m02, m10, m11, m12}}.
+     */
+    abstract void applyMatrix(double[] m);
+
+    /**
+     * Recalcula a caixa envolvente e o círculo envolvente a partir da geometria
+     * atual. As subclasses chamam-no no fim do construtor.
+     */
+    abstract void updateBounds();
 
-        this.lastAngle = this.transform.angle();
-        this.lastScale = this.transform.scale();
+    /**
+     * Teste rápido que descarta pares cujas caixas ou círculos envolventes não
+     * se sobrepõem. Só um resultado {@code true} obriga ao teste exato.
+     *
+     * @param other Outro collider.
+     * @return {@code false} se for garantido que os colliders não colidem.
+     */
+    boolean boundsOverlap(Collider other) {
+        if (this.minX > other.maxX || other.minX > this.maxX
+                || this.minY > other.maxY || other.minY > this.maxY) {
+            return false;
+        }
+
+        double dx = this.centerX - other.centerX;
+        double dy = this.centerY - other.centerY;
+        double r = this.boundingRadius + other.boundingRadius;
+
+        return dx * dx + dy * dy <= r * r;
     }
 
     public boolean isColliding(ICollider other) {
         return other.isColliding(this);
     }
 
-    public abstract Point centroid();
+    public Point centroid() {
+        return new Point(this.centerX, this.centerY);
+    }
+
+    public double minX() {
+        return this.minX;
+    }
 
-    public abstract void translation(Vector v);
+    public double minY() {
+        return this.minY;
+    }
 
-    public abstract void rotate(double angle);
+    public double maxX() {
+        return this.maxX;
+    }
 
-    public abstract void scale(double scale);
+    public double maxY() {
+        return this.maxY;
+    }
+
+    public double boundingRadius() {
+        return this.boundingRadius;
+    }
+
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    public boolean isContinuous() {
+        return this.continuous;
+    }
 
     public abstract Shape getShape();
 
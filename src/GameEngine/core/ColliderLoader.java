@@ -9,6 +9,11 @@ import GameEngine.interfaces.ITransform;
 
 public class ColliderLoader {
     public static ICollider newGenericCollider(ITransform transform, int[] values) throws ColliderLoaderException{
+        return newGenericCollider(transform, values, null);
+    }
+
+    // com um WorldStore, os vertices dos poligonos ficam guardados nos seus blocos
+    public static ICollider newGenericCollider(ITransform transform, int[] values, WorldStore world) throws ColliderLoaderException{
         try {
             if (values.length < 2) 
                 throw new ColliderLoaderException();
@@ -33,6 +38,9 @@ public class ColliderLoader {
                 for (int i = 0; i < values.length/2; i++) 
                     points[i] = new Point(values[i*2], values[i*2+1]); 
                 
+                if (world != null)
+                    return world.newPolygon(transform, points, points.length);
+
                 return new CollPoly(transform, points, points.length);
             }
         } catch (CollCircleException | CollPolyException | ColliderLoaderException e){
@@ -0,0 +1,107 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.IGameObject;
+import java.util.Arrays;
+
+/**
+ * Fila de alterações estruturais (ativar, desativar, destruir, adicionar)
+ * e de ações adiadas pedidas durante um tick.
+ *
+ * <p>
+ * A engine não altera as suas listas de objetos enquanto as percorre; em vez
+ * disso regista os pedidos neste buffer e aplica-os, pela ordem em que foram
+ * feitos, no fim do tick. Os arrays internos são reutilizados entre ticks.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class CommandBuffer {
+    public static final byte ADD_ENABLED = 0;
+    public static final byte ADD_DISABLED = 1;
+    public static final byte ENABLE = 2;
+    public static final byte DISABLE = 3;
+    public static final byte DESTROY = 4;
+    public static final byte RUN = 5;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] ops;
+    private IGameObject[] targets;
+    private Runnable[] actions;
+    private int size;
+
+    public CommandBuffer() {
+        this.ops = new byte[INITIAL_CAPACITY];
+        this.targets = new IGameObject[INITIAL_CAPACITY];
+        this.actions = new Runnable[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Regista um pedido.
+     *
+     * @param op Código da operação (por exemplo {@link #ENABLE}).
+     * @param go Objeto alvo da operação.
+     */
+    public void add(byte op, IGameObject go) {
+        this.grow();
+
+        this.ops[this.size] = op;
+        this.targets[this.size] = go;
+        this.size++;
+    }
+
+    /**
+     * Regista uma ação a executar na vez do pedido ({@link #RUN}).
+     *
+     * @param action Ação a executar.
+     */
+    public void add(Runnable action) {
+        this.grow();
+
+        this.ops[this.size] = RUN;
+        this.actions[this.size] = action;
+        this.size++;
+    }
+
+    private void grow() {
+        if (this.size == this.ops.length) {
+            this.ops = Arrays.copyOf(this.ops, this.size * 2);
+            this.targets = Arrays.copyOf(this.targets, this.size * 2);
+            this.actions = Arrays.copyOf(this.actions, this.size * 2);
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public byte op(int i) {
+        return this.ops[i];
+    }
+
+    public IGameObject target(int i) {
+        return this.targets[i];
+    }
+
+    public Runnable action(int i) {
+        return this.actions[i];
+    }
+
+    /**
+     * Esvazia o buffer, largando as referências aos objetos e às ações.
+     */
+    public void clear() {
+        Arrays.fill(this.targets, 0, this.size, null);
+        Arrays.fill(this.actions, 0, this.size, null);
+        this.size = 0;
+    }
+}
@@ -0,0 +1,393 @@
+package GameEngine.core;
+
+import GameEngine.core.physics.PhysicsWorld;
+import GameEngine.interfaces.IBehaviour;
+import GameEngine.interfaces.IGameObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conjunto persistente dos pares de objetos em contacto, comparado entre ticks
+ * para gerar os eventos de entrada, permanência e saída de colisão.
+ *
+ * <p>
+ * Os pares vivem num array denso indexado por uma tabela de dispersão com
+ * endereçamento aberto. Em cada tick a narrowphase marca os pares que colidem
+ * ({@link #touch(IGameObject, IGameObject)}); os pares que não foram marcados
+ * saíram de contacto e são removidos em {@link #end()}.
+ * </p>
+ *
+ * <p>
+ * Cada objeto tem ainda a lista dos objetos com que está em contacto, que só é
+ * alterada quando um contacto começa ou acaba. Enquanto os contactos não
+ * mudarem, nenhum tick aloca memória.
+ * </p>
+ *
+ * @see IBehaviour#onCollisionEnter(IGameObject)
+ * @see IBehaviour#onCollisionStay(IGameObject)
+ * @see IBehaviour#onCollisionExit(IGameObject)
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class ContactCache {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Contactos de um objeto; {@code index} é a posição em {@code touching}.
+     * Os comportamentos recebem {@code view}, que não os deixa alterar a
+     * lista.
+     */
+    private static final class Contacts {
+        final IGameObject owner;
+        final ArrayList<IGameObject> others;
+        final List<IGameObject> view;
+        int index;
+
+        Contacts(IGameObject owner) {
+            this.owner = owner;
+            this.others = new ArrayList<>(4);
+            this.view = Collections.unmodifiableList(this.others);
+        }
+    }
+
+    // pares em contacto
+    private IGameObject[] first, second;
+    private int[] seen;
+    private boolean[] fresh;
+    private int count;
+
+    // indice + 1 de cada par (0 e uma posicao vazia)
+    private int[] table;
+
+    // pares que sairam de contacto e ainda nao foram notificados
+    private IGameObject[] exitFirst, exitSecond;
+    private int exitCount;
+
+    private final Map<IGameObject, Contacts> contacts;
+    private Contacts[] touching;
+    private int touchingCount;
+
+    private int tick;
+
+    public ContactCache() {
+        this.first = new IGameObject[INITIAL_CAPACITY];
+        this.second = new IGameObject[INITIAL_CAPACITY];
+        this.seen = new int[INITIAL_CAPACITY];
+        this.fresh = new boolean[INITIAL_CAPACITY];
+        this.count = 0;
+
+        this.table = new int[INITIAL_CAPACITY * 2];
+
+        this.exitFirst = new IGameObject[INITIAL_CAPACITY];
+        this.exitSecond = new IGameObject[INITIAL_CAPACITY];
+        this.exitCount = 0;
+
+        this.contacts = new IdentityHashMap<>();
+        this.touching = new Contacts[INITIAL_CAPACITY];
+        this.touchingCount = 0;
+
+        this.tick = 0;
+    }
+
+    /**
+     * Começa um novo tick de deteção de colisões.
+     */
+    public void begin() {
+        this.tick++;
+    }
+
+    /**
+     * Marca um par como estando em contacto neste tick. A ordem dos objetos é
+     * indiferente.
+     *
+     * @param a Primeiro objeto.
+     * @param b Segundo objeto.
+     */
+    public void touch(IGameObject a, IGameObject b) {
+        int pos = this.find(a, b);
+
+        if (this.table[pos] != 0) {
+            this.seen[this.table[pos] - 1] = this.tick;
+            return;
+        }
+
+        if ((this.count + 1) * 2 > this.table.length) {
+            this.grow();
+            pos = this.find(a, b);
+        }
+
+        int index = this.count++;
+
+        this.first[index] = a;
+        this.second[index] = b;
+        this.seen[index] = this.tick;
+        this.fresh[index] = true;
+        this.table[pos] = index + 1;
+
+        this.link(a, b);
+        this.link(b, a);
+    }
+
+    /**
+     * Verifica se um par estava em contacto no fim do tick anterior (ou já foi
+     * marcado neste).
+     *
+     * @param a Primeiro objeto.
+     * @param b Segundo objeto.
+     * @return {@code true} se o par estiver no conjunto.
+     */
+    public boolean contains(IGameObject a, IGameObject b) {
+        return this.table[this.find(a, b)] != 0;
+    }
+
+    /**
+     * Mantém os pares em contacto que ainda não foram marcados neste tick e
+     * estão em repouso ({@link PhysicsWorld#isResting(IGameObject, IGameObject)}).
+     * A broadphase não entrega pares entre objetos fixos, como um corpo a
+     * dormir pousado no chão, mas o contacto entre eles continua igual ao do
+     * tick anterior.
+     *
+     * @param physics Mundo físico, que sabe que corpos estão a dormir.
+     * @param matrix  Matriz de camadas; os pares cujas camadas deixaram de
+     *                colidir não são mantidos.
+     */
+    public void keepResting(PhysicsWorld physics, LayerMatrix matrix) {
+        for (int i = 0; i < this.count; i++) {
+            IGameObject a = this.first[i];
+            IGameObject b = this.second[i];
+
+            if (this.seen[i] != this.tick && physics.isResting(a, b)
+                    && matrix.canCollide(a.transform().layer(), b.transform().layer())) {
+                this.seen[i] = this.tick;
+            }
+        }
+    }
+
+    /**
+     * Termina o tick: os pares que não foram marcados desde {@link #begin()}
+     * deixam de estar em contacto.
+     */
+    public void end() {
+        // percorre do fim para o inicio, porque a remocao traz o ultimo par
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (this.seen[i] != this.tick) {
+                this.removeAt(i);
+            }
+        }
+    }
+
+    /**
+     * Remove todos os contactos de um objeto que deixou de participar na
+     * deteção de colisões. Os outros objetos recebem a saída do contacto no
+     * próximo {@link #dispatch(ObjectStore)}.
+     *
+     * @param go Objeto a esquecer.
+     */
+    public void forget(IGameObject go) {
+        Contacts mine = this.contacts.get(go);
+
+        while (mine != null && !mine.others.isEmpty()) {
+            IGameObject other = mine.others.get(mine.others.size() - 1);
+
+            this.removeAt(this.table[this.find(go, other)] - 1);
+        }
+    }
+
+    /**
+     * Notifica os comportamentos das saídas, entradas e permanências de
+     * contacto, e por fim chama {@link IBehaviour#onCollision(List)} com a
+     * lista de contactos de cada objeto.
+     *
+     * @param live Objetos ativos; as saídas só são entregues a estes objetos.
+     */
+    public void dispatch(ObjectStore live) {
+        // as saidas primeiro, para que um contacto que acabou e recomecou chegue
+        // pela ordem certa
+        for (int k = 0; k < this.exitCount; k++) {
+            IGameObject a = this.exitFirst[k];
+            IGameObject b = this.exitSecond[k];
+
+            if (live.contains(a)) {
+                a.behaviour().onCollisionExit(b);
+            }
+
+            if (live.contains(b)) {
+                b.behaviour().onCollisionExit(a);
+            }
+
+            this.exitFirst[k] = null;
+            this.exitSecond[k] = null;
+        }
+
+        this.exitCount = 0;
+
+        for (int i = 0; i < this.count; i++) {
+            IGameObject a = this.first[i];
+            IGameObject b = this.second[i];
+
+            if (this.fresh[i]) {
+                this.fresh[i] = false;
+                a.behaviour().onCollisionEnter(b);
+                b.behaviour().onCollisionEnter(a);
+            } else {
+                a.behaviour().onCollisionStay(b);
+                b.behaviour().onCollisionStay(a);
+            }
+        }
+
+        for (int i = 0; i < this.touchingCount; i++) {
+            this.touching[i].owner.behaviour().onCollision(this.touching[i].view);
+        }
+    }
+
+    private static int hash(IGameObject a, IGameObject b) {
+        // soma, para que (a, b) e (b, a) tenham o mesmo hash
+        int h = (System.identityHashCode(a) + System.identityHashCode(b)) * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Retorna a posição da tabela onde o par está, ou a posição vazia onde
+     * deveria ser inserido.
+     */
+    private int find(IGameObject a, IGameObject b) {
+        int mask = this.table.length - 1;
+        int pos = hash(a, b) & mask;
+
+        while (this.table[pos] != 0) {
+            int index = this.table[pos] - 1;
+
+            if ((this.first[index] == a && this.second[index] == b)
+                    || (this.first[index] == b && this.second[index] == a)) {
+                return pos;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return pos;
+    }
+
+    private void grow() {
+        int capacity = this.first.length * 2;
+
+        this.first = Arrays.copyOf(this.first, capacity);
+        this.second = Arrays.copyOf(this.second, capacity);
+        this.seen = Arrays.copyOf(this.seen, capacity);
+        this.fresh = Arrays.copyOf(this.fresh, capacity);
+        this.table = new int[capacity * 2];
+
+        for (int i = 0; i < this.count; i++) {
+            this.table[this.find(this.first[i], this.second[i])] = i + 1;
+        }
+    }
+
+    private void removeAt(int index) {
+        IGameObject a = this.first[index];
+        IGameObject b = this.second[index];
+
+        this.unindex(this.find(a, b));
+
+        int last = --this.count;
+
+        if (index != last) {
+            this.first[index] = this.first[last];
+            this.second[index] = this.second[last];
+            this.seen[index] = this.seen[last];
+            this.fresh[index] = this.fresh[last];
+            this.table[this.find(this.first[index], this.second[index])] = index + 1;
+        }
+
+        this.first[last] = null;
+        this.second[last] = null;
+
+        this.unlink(a, b);
+        this.unlink(b, a);
+
+        if (this.exitCount == this.exitFirst.length) {
+            this.exitFirst = Arrays.copyOf(this.exitFirst, this.exitCount * 2);
+            this.exitSecond = Arrays.copyOf(this.exitSecond, this.exitCount * 2);
+        }
+
+        this.exitFirst[this.exitCount] = a;
+        this.exitSecond[this.exitCount++] = b;
+    }
+
+    /**
+     * Esvazia uma posição da tabela, puxando para trás os pares seguintes da
+     * mesma sequência de sondagem para não deixar buracos.
+     */
+    private void unindex(int pos) {
+        int mask = this.table.length - 1;
+        int hole = pos;
+        int next = (pos + 1) & mask;
+
+        while (this.table[next] != 0) {
+            int index = this.table[next] - 1;
+            int home = hash(this.first[index], this.second[index]) & mask;
+
+            // o par so pode ir para o buraco se o buraco estiver entre a sua
+            // posicao natural e a posicao atual
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                this.table[hole] = this.table[next];
+                hole = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        this.table[hole] = 0;
+    }
+
+    private void link(IGameObject owner, IGameObject other) {
+        Contacts mine = this.contacts.get(owner);
+
+        if (mine == null) {
+            mine = new Contacts(owner);
+            this.contacts.put(owner, mine);
+
+            if (this.touchingCount == this.touching.length) {
+                this.touching = Arrays.copyOf(this.touching, this.touchingCount * 2);
+            }
+
+            mine.index = this.touchingCount;
+            this.touching[this.touchingCount++] = mine;
+        }
+
+        mine.others.add(other);
+    }
+
+    private void unlink(IGameObject owner, IGameObject other) {
+        Contacts mine = this.contacts.get(owner);
+        ArrayList<IGameObject> others = mine.others;
+
+        for (int i = 0; i < others.size(); i++) {
+            if (others.get(i) == other) {
+                others.set(i, others.get(others.size() - 1));
+                others.remove(others.size() - 1);
+                break;
+            }
+        }
+
+        if (!others.isEmpty()) {
+            return;
+        }
+
+        Contacts moved = this.touching[--this.touchingCount];
+
+        this.touching[mine.index] = moved;
+        moved.index = mine.index;
+        this.touching[this.touchingCount] = null;
+
+        this.contacts.remove(owner);
+    }
+}
@@ -4,6 +4,7 @@ import GameEngine.interfaces.IBehaviour;
 import GameEngine.interfaces.ICollider;
 import GameEngine.interfaces.IGameEngine;
 import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IRigidBody;
 import GameEngine.interfaces.IShape;
 import GameEngine.interfaces.ITransform;
 
@@ -25,6 +26,11 @@ public final class GameObject implements IGameObject {
     private final IBehaviour behaviour;
     private final IGameEngine gameEngine; // meio estranho mas é o que esta nos diagramas uml do prof
 
+    private IRigidBody rigidBody = null;
+    private boolean isStatic = false;
+
+    private int slot = -1;
+
     /**
      * Construtor que recebe uma {@code String}, uma referência para um objeto que
      * implemente {@code ITransform}, e por último uma referência para um objeto que
@@ -38,6 +44,17 @@ public final class GameObject implements IGameObject {
      *                  {@code ICollider}.
      */
     public GameObject(String name, ITransform transform, ICollider collider, IShape shape, IBehaviour behaviour, IGameEngine gameEngine) {
+        this(name, transform, collider, shape, behaviour, gameEngine, true);
+    }
+
+    /**
+     * Construtor que permite criar o {@code GameObject} sem o ativar na
+     * engine, como é necessário para os objetos criados por um
+     * {@link GameEngine.interfaces.IPrefab}.
+     *
+     * @param enabled {@code true} para ativar o objeto logo na criação.
+     */
+    public GameObject(String name, ITransform transform, ICollider collider, IShape shape, IBehaviour behaviour, IGameEngine gameEngine, boolean enabled) {
         this.name = name;
         this.transform = transform;
         this.collider = collider;
@@ -45,7 +62,9 @@ public final class GameObject implements IGameObject {
         this.behaviour = behaviour;
         this.gameEngine = gameEngine;
 
-        this.init();
+        if (enabled) {
+            this.init();
+        }
     }
 
     public void init(){
@@ -118,6 +137,36 @@ public final class GameObject implements IGameObject {
         return this.behaviour;
     }
 
+    @Override
+    public IRigidBody rigidBody() {
+        return this.rigidBody;
+    }
+
+    @Override
+    public void rigidBody(IRigidBody body) {
+        this.rigidBody = body;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return this.isStatic;
+    }
+
+    @Override
+    public void setStatic(boolean isStatic) {
+        this.isStatic = isStatic;
+    }
+
+    @Override
+    public int slot() {
+        return this.slot;
+    }
+
+    @Override
+    public void slot(int index) {
+        this.slot = index;
+    }
+
     /**
      * Devolve uma representação textual do GameObject,
      * incluindo o nome, o transform e o collider.
@@ -0,0 +1,265 @@
+package GameEngine.core;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/**
+ * Atlas de glifos de um tamanho de letra, partilhado por todos os textos com
+ * esse tamanho, seja qual for a sua cor.
+ *
+ * <p>
+ * Os caracteres ASCII imprimíveis são desenhados uma única vez, com
+ * antialiasing, numa faixa de células onde só se guarda a cobertura de cada
+ * pixel. Compor um texto passa a ser apenas copiar as células dos seus
+ * caracteres para uma imagem nova, pintadas com a cor do texto, sem criar
+ * fontes nem voltar a rasterizar os glifos, o que compensa em textos que mudam
+ * muitas vezes, como pontuações e temporizadores. A imagem composta tem a
+ * mesma margem e a mesma linha de base que a de {@link Text}.
+ * </p>
+ *
+ * <p>
+ * Os glifos são posicionados pela largura de avanço de cada caracter, sem
+ * kerning, tal como a fonte por omissão os desenha. Textos com caracteres fora
+ * do atlas devem ser desenhados da forma normal; ver {@link #covers(String)}.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class GlyphAtlas {
+    private static final char FIRST = ' ';
+    private static final char LAST = '~';
+
+    // margem a volta do texto, igual a de Text
+    private static final int MARGIN = 5;
+
+    // um atlas por tamanho: a cor so entra ao compor, pelo que o numero de
+    // atlas nao cresce com as cores usadas
+    private static final HashMap<Integer, GlyphAtlas> ATLASES = new HashMap<>();
+
+    // cobertura (0 a 255) dos pixeis da faixa de celulas, uma celula por
+    // caracter
+    private final byte[] strip;
+    private final int stripWidth, stripHeight;
+    private final int[] advances;
+
+    // caixa dos pixeis visiveis de cada celula, [min, max)
+    private final int[] inkMinX, inkMaxX, inkMinY, inkMaxY;
+
+    private final int cellWidth;
+    private final int pad;
+    private final int ascent;
+    private final int height;
+
+    private GlyphAtlas(int size) {
+        Font font = new Font("Arial", Font.PLAIN, size);
+
+        BufferedImage tempImg = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D tempG = tempImg.createGraphics();
+
+        tempG.setFont(font);
+        FontMetrics metrics = tempG.getFontMetrics();
+
+        this.advances = new int[LAST - FIRST + 1];
+
+        int widest = 0;
+
+        for (char c = FIRST; c <= LAST; c++) {
+            this.advances[c - FIRST] = metrics.charWidth(c);
+            widest = Math.max(widest, this.advances[c - FIRST]);
+        }
+
+        this.ascent = metrics.getAscent();
+        this.height = metrics.getHeight();
+
+        tempG.dispose();
+
+        // os glifos podem sair da sua largura de avanco, por isso cada celula
+        // tem folga dos dois lados
+        this.pad = size / 4 + 2;
+        this.cellWidth = widest + 2 * this.pad;
+
+        this.stripWidth = this.cellWidth * this.advances.length;
+        this.stripHeight = this.height + 2 * this.pad;
+
+        BufferedImage cells = new BufferedImage(this.stripWidth, this.stripHeight, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = cells.createGraphics();
+
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(font);
+        g2d.setColor(Color.WHITE);
+
+        for (char c = FIRST; c <= LAST; c++) {
+            g2d.drawString(String.valueOf(c), (c - FIRST) * this.cellWidth + this.pad, this.pad + this.ascent);
+        }
+
+        g2d.dispose();
+
+        int[] argb = cells.getRGB(0, 0, this.stripWidth, this.stripHeight, null, 0, this.stripWidth);
+
+        this.strip = new byte[argb.length];
+
+        for (int i = 0; i < argb.length; i++) {
+            this.strip[i] = (byte) (argb[i] >>> 24);
+        }
+
+        this.inkMinX = new int[this.advances.length];
+        this.inkMaxX = new int[this.advances.length];
+        this.inkMinY = new int[this.advances.length];
+        this.inkMaxY = new int[this.advances.length];
+
+        for (int glyph = 0; glyph < this.advances.length; glyph++) {
+            this.measureInk(glyph);
+        }
+    }
+
+    /**
+     * Calcula a caixa dos pixeis visíveis de uma célula, para que compor um
+     * texto só percorra os pixeis que de facto têm tinta.
+     */
+    private void measureInk(int glyph) {
+        int minX = this.cellWidth, maxX = 0, minY = this.stripHeight, maxY = 0;
+
+        for (int y = 0; y < this.stripHeight; y++) {
+            for (int x = 0; x < this.cellWidth; x++) {
+                if (this.strip[y * this.stripWidth + glyph * this.cellWidth + x] != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x + 1);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y + 1);
+                }
+            }
+        }
+
+        this.inkMinX[glyph] = minX;
+        this.inkMaxX[glyph] = maxX;
+        this.inkMinY[glyph] = minY;
+        this.inkMaxY[glyph] = maxY;
+    }
+
+    /**
+     * Atlas partilhado para um tamanho, criado no primeiro pedido.
+     *
+     * @param size Tamanho da letra.
+     * @return O atlas.
+     */
+    public static GlyphAtlas get(int size) {
+        synchronized (ATLASES) {
+            GlyphAtlas atlas = ATLASES.get(size);
+
+            if (atlas == null) {
+                atlas = new GlyphAtlas(size);
+                ATLASES.put(size, atlas);
+            }
+
+            return atlas;
+        }
+    }
+
+    /**
+     * Verifica se todos os caracteres do texto estão no atlas.
+     *
+     * @param str Texto a verificar.
+     * @return {@code true} se o texto puder ser composto pelo atlas.
+     */
+    public boolean covers(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (c < FIRST || c > LAST) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compõe a imagem de um texto a partir dos glifos do atlas.
+     *
+     * @param str   Texto, só com caracteres cobertos pelo atlas.
+     * @param color Cor da letra.
+     * @return Uma imagem nova com o texto.
+     */
+    public BufferedImage render(String str, Color color) {
+        int width = 2 * MARGIN;
+
+        for (int i = 0; i < str.length(); i++) {
+            width += this.advances[str.charAt(i) - FIRST];
+        }
+
+        int height = this.height + 2 * MARGIN;
+        int[] pixels = new int[width * height];
+
+        int penX = MARGIN;
+
+        for (int i = 0; i < str.length(); i++) {
+            int glyph = str.charAt(i) - FIRST;
+
+            this.blit(glyph, penX - this.pad, MARGIN - this.pad, pixels, width, height);
+
+            penX += this.advances[glyph];
+        }
+
+        // ate aqui os pixeis so tem cobertura; a cor e a sua opacidade entram
+        // agora, como se o texto tivesse sido desenhado com ela
+        int rgb = color.getRGB() & 0x00ffffff;
+        int alpha = color.getAlpha();
+
+        for (int i = 0; i < pixels.length; i++) {
+            int coverage = pixels[i];
+
+            if (coverage != 0) {
+                int a = alpha == 255 ? coverage : (coverage * alpha + 127) / 255;
+                pixels[i] = (a << 24) | rgb;
+            }
+        }
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        // setDataElements nao tira a imagem da memoria gerida, ao contrario de
+        // escrever diretamente no DataBuffer
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+
+        return image;
+    }
+
+    /**
+     * Copia a cobertura da célula de um glifo para {@code (dx, dy)}. Onde dois
+     * glifos se sobrepõem (só nas margens com antialiasing) as coberturas são
+     * somadas como as opacidades em {@link AlphaComposite#SrcOver}.
+     */
+    private void blit(int glyph, int dx, int dy, int[] pixels, int width, int height) {
+        int sx = glyph * this.cellWidth;
+
+        int fromX = Math.max(this.inkMinX[glyph], -dx), toX = Math.min(this.inkMaxX[glyph], width - dx);
+        int fromY = Math.max(this.inkMinY[glyph], -dy), toY = Math.min(this.inkMaxY[glyph], height - dy);
+
+        for (int y = fromY; y < toY; y++) {
+            int src = y * this.stripWidth + sx;
+            int dst = (dy + y) * width + dx;
+
+            for (int x = fromX; x < toX; x++) {
+                int sa = this.strip[src + x] & 0xff;
+
+                if (sa == 0) {
+                    continue;
+                }
+
+                int da = pixels[dst + x];
+
+                pixels[dst + x] = da == 0 ? sa : da + (sa * (255 - da) + 127) / 255;
+            }
+        }
+    }
+}
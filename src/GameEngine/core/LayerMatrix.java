@@ -0,0 +1,132 @@
+package GameEngine.core;
+
+/**
+ * Matriz que define que camadas (layers) podem colidir entre si.
+ *
+ * <p>
+ * Por omissão cada camada só colide consigo própria, que é a regra usada por
+ * {@link GameObject#isColliding(GameEngine.interfaces.IGameObject)}. A matriz
+ * permite desligar colisões dentro de uma camada (por exemplo, cenário ou HUD)
+ * e ligar colisões entre camadas diferentes.
+ * </p>
+ *
+ * <p>
+ * Cada linha da matriz é guardada como uma máscara de bits, pelo que só as
+ * camadas de {@code 0} a {@code MAX_LAYERS - 1} são configuráveis; as restantes
+ * usam sempre a regra por omissão.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class LayerMatrix {
+    public static final int MAX_LAYERS = 64;
+
+    /**
+     * Máscara que aceita todas as camadas, incluindo as que estão fora do
+     * intervalo configurável.
+     */
+    public static final long ALL_LAYERS = -1L;
+
+    private final long[] masks;
+
+    public LayerMatrix() {
+        this.masks = new long[MAX_LAYERS];
+
+        for (int i = 0; i < MAX_LAYERS; i++) {
+            this.masks[i] = 1L << i;
+        }
+    }
+
+    private static boolean inRange(int layer) {
+        return layer >= 0 && layer < MAX_LAYERS;
+    }
+
+    /**
+     * Retorna o bit da camada numa máscara de camadas.
+     *
+     * @param layer Camada.
+     * @return {@code 1L << layer}, ou {@code 0} se a camada estiver fora do
+     *         intervalo configurável (só aceite por {@link #ALL_LAYERS}).
+     */
+    public static long bit(int layer) {
+        return inRange(layer) ? 1L << layer : 0;
+    }
+
+    /**
+     * Verifica se uma máscara de camadas aceita a camada indicada.
+     *
+     * @param mask  Máscara de camadas, por exemplo
+     *              {@code LayerMatrix.bit(1) | LayerMatrix.bit(3)}.
+     * @param layer Camada a verificar.
+     * @return {@code true} se a máscara aceitar a camada.
+     */
+    public static boolean accepts(long mask, int layer) {
+        return mask == ALL_LAYERS || (mask & bit(layer)) != 0;
+    }
+
+    /**
+     * Liga ou desliga as colisões entre duas camadas (a relação é simétrica).
+     *
+     * @param layerA  Primeira camada.
+     * @param layerB  Segunda camada (pode ser igual à primeira).
+     * @param collide {@code true} para as camadas colidirem.
+     * @throws IllegalArgumentException Se alguma camada estiver fora de
+     *                                  {@code [0, MAX_LAYERS)}.
+     */
+    public void setCollision(int layerA, int layerB, boolean collide) {
+        if (!inRange(layerA) || !inRange(layerB)) {
+            throw new IllegalArgumentException("Layer must be in [0, " + MAX_LAYERS + ")");
+        }
+
+        if (collide) {
+            this.masks[layerA] |= 1L << layerB;
+            this.masks[layerB] |= 1L << layerA;
+        } else {
+            this.masks[layerA] &= ~(1L << layerB);
+            this.masks[layerB] &= ~(1L << layerA);
+        }
+    }
+
+    /**
+     * Verifica se objetos das duas camadas podem colidir.
+     *
+     * @param layerA Primeira camada.
+     * @param layerB Segunda camada.
+     * @return {@code true} se as camadas colidirem.
+     */
+    public boolean canCollide(int layerA, int layerB) {
+        if (!inRange(layerA) || !inRange(layerB)) {
+            return layerA == layerB;
+        }
+
+        return (this.masks[layerA] & (1L << layerB)) != 0;
+    }
+
+    /**
+     * Máscara das camadas com que uma camada colide, para filtrar consultas
+     * espaciais.
+     *
+     * @param layer Camada.
+     * @return A máscara, ou {@link #ALL_LAYERS} se a camada estiver fora do
+     *         intervalo configurável.
+     */
+    public long mask(int layer) {
+        return inRange(layer) ? this.masks[layer] : ALL_LAYERS;
+    }
+
+    /**
+     * Verifica se uma camada colide com alguma outra (incluindo ela própria).
+     * Objetos em camadas que não colidem com nada nunca entram na geração de
+     * pares.
+     *
+     * @param layer Camada a verificar.
+     * @return {@code true} se a camada colidir com pelo menos uma camada.
+     */
+    public boolean collidesWithAny(int layer) {
+        return !inRange(layer) || this.masks[layer] != 0;
+    }
+}
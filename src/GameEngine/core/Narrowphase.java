@@ -0,0 +1,232 @@
+package GameEngine.core;
+
+import GameEngine.core.broadphase.PairList;
+import GameEngine.core.physics.PhysicsWorld;
+import GameEngine.core.simd.CircleBatch;
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IGameObject;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Narrowphase da engine: decide quais dos pares candidatos da broadphase
+ * colidem de facto.
+ *
+ * <p>
+ * A lista de pares é dividida em blocos contíguos, testados em paralelo num
+ * {@link ForkJoinPool}. Cada bloco tem os seus próprios buffers (o resultado
+ * de cada par e o lote de pares círculo-círculo), pelo que as threads não
+ * partilham nada em que escrevam. No fim, na thread do jogo, os resultados
+ * são aplicados à {@link ContactCache} e ao {@link PhysicsWorld} percorrendo
+ * os blocos por ordem: a ordem dos contactos, e portanto dos eventos de
+ * colisão, é a mesma que a de um teste sequencial, seja qual for a ordem em
+ * que as threads terminam.
+ * </p>
+ *
+ * <p>
+ * Os testes de colisão só leem a geometria dos colliders, que não muda
+ * durante a narrowphase; a única escrita é a cache de eixos do SAT de cada
+ * polígono, que serve apenas para escolher o primeiro eixo a testar e dá o
+ * mesmo resultado com qualquer valor. Com poucos pares, ou sem mais do que
+ * uma thread disponível, os pares são testados num só bloco na thread do
+ * jogo.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class Narrowphase {
+    /**
+     * Número mínimo de pares por bloco; abaixo disto o custo de distribuir o
+     * trabalho é maior do que o ganho.
+     */
+    public static final int DEFAULT_MIN_CHUNK = 512;
+
+    // resultado de cada par
+    private static final byte MISS = 0;
+    private static final byte HIT = 1;
+    private static final byte RESTING = 2;
+    private static final byte BATCHED = 3;
+
+    /**
+     * Bloco de pares {@code [from, to)} com os seus buffers de resultados.
+     * As tarefas são reutilizadas de tick para tick.
+     */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private byte[] states = new byte[0];
+        private final transient CircleBatch circles = new CircleBatch();
+        private int from, to;
+        private int circleHits;
+
+        private void prepare(int from, int to) {
+            this.from = from;
+            this.to = to;
+
+            if (this.states.length < to - from) {
+                this.states = new byte[Math.max(to - from, this.states.length * 2)];
+            }
+
+            this.reinitialize();
+        }
+
+        @Override
+        protected void compute() {
+            PairList pairs = Narrowphase.this.pairs;
+            PhysicsWorld physics = Narrowphase.this.physics;
+
+            this.circles.clear();
+
+            for (int i = this.from; i < this.to; i++) {
+                IGameObject goA = pairs.first(i);
+                IGameObject goB = pairs.second(i);
+                byte state;
+
+                // um par em repouso continua exatamente como no tick anterior
+                if (physics.isResting(goA, goB)) {
+                    state = RESTING;
+                } else {
+                    ICollider collA = goA.collider();
+                    ICollider collB = goB.collider();
+
+                    // os pares circulo-circulo sao testados todos de uma vez no fim
+                    if (collA instanceof CollCircle circleA && collB instanceof CollCircle circleB) {
+                        this.circles.add(goA, circleA, goB, circleB);
+                        state = BATCHED;
+                    } else {
+                        // as camadas ja foram filtradas pela matriz na broadphase
+                        state = collA.isColliding(collB) ? HIT : MISS;
+                    }
+                }
+
+                this.states[i - this.from] = state;
+            }
+
+            this.circleHits = this.circles.run();
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final ArrayList<Chunk> chunks;
+    private int minChunk;
+
+    // estado da chamada em curso, lido pelos blocos
+    private PairList pairs;
+    private PhysicsWorld physics;
+
+    public Narrowphase() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria uma narrowphase que corre os blocos no pool indicado.
+     *
+     * @param pool Pool de threads a usar.
+     */
+    public Narrowphase(ForkJoinPool pool) {
+        this.pool = pool;
+        this.chunks = new ArrayList<>();
+        this.minChunk = DEFAULT_MIN_CHUNK;
+    }
+
+    /**
+     * Define o número mínimo de pares por bloco.
+     *
+     * @param minChunk Pares por bloco; com um valor maior ou igual ao número
+     *                 de pares, tudo corre na thread do jogo.
+     */
+    public void setMinChunk(int minChunk) {
+        this.minChunk = Math.max(1, minChunk);
+    }
+
+    /**
+     * Testa os pares e regista os que colidem.
+     *
+     * @param pairs    Pares candidatos da broadphase.
+     * @param physics  Mundo físico, que recebe os contactos novos.
+     * @param contacts Cache de contactos, onde cada par em contacto é marcado.
+     */
+    public void run(PairList pairs, PhysicsWorld physics, ContactCache contacts) {
+        int count = pairs.size();
+
+        // a thread do jogo tambem trabalha, por isso conta como mais uma
+        int workers = Math.min(this.pool.getParallelism() + 1, Runtime.getRuntime().availableProcessors());
+        int chunkCount = Math.max(1, Math.min(workers, count / this.minChunk));
+
+        while (this.chunks.size() < chunkCount) {
+            this.chunks.add(new Chunk());
+        }
+
+        this.pairs = pairs;
+        this.physics = physics;
+
+        for (int k = 0; k < chunkCount; k++) {
+            this.chunks.get(k).prepare(
+                    (int) ((long) count * k / chunkCount),
+                    (int) ((long) count * (k + 1) / chunkCount));
+        }
+
+        for (int k = 1; k < chunkCount; k++) {
+            this.pool.execute(this.chunks.get(k));
+        }
+
+        try {
+            // o primeiro bloco corre na thread do jogo enquanto os outros correm no pool
+            this.chunks.get(0).compute();
+        } finally {
+            for (int k = 1; k < chunkCount; k++) {
+                this.chunks.get(k).quietlyJoin();
+            }
+
+            this.pairs = null;
+            this.physics = null;
+        }
+
+        // volta a lancar na thread do jogo a excecao de algum bloco
+        for (int k = 1; k < chunkCount; k++) {
+            this.chunks.get(k).join();
+        }
+
+        this.merge(pairs, physics, contacts, chunkCount);
+    }
+
+    /**
+     * Aplica os resultados pela ordem dos pares: primeiro os testes par a par,
+     * depois os lotes de círculos, bloco a bloco.
+     */
+    private void merge(PairList pairs, PhysicsWorld physics, ContactCache contacts, int chunkCount) {
+        for (int k = 0; k < chunkCount; k++) {
+            Chunk chunk = this.chunks.get(k);
+
+            for (int i = chunk.from; i < chunk.to; i++) {
+                byte state = chunk.states[i - chunk.from];
+
+                if (state == HIT) {
+                    contacts.touch(pairs.first(i), pairs.second(i));
+                    physics.addContact(pairs.first(i), pairs.second(i));
+                } else if (state == RESTING && contacts.contains(pairs.first(i), pairs.second(i))) {
+                    contacts.touch(pairs.first(i), pairs.second(i));
+                }
+            }
+        }
+
+        for (int k = 0; k < chunkCount; k++) {
+            Chunk chunk = this.chunks.get(k);
+
+            for (int h = 0; h < chunk.circleHits; h++) {
+                IGameObject goA = chunk.circles.hitFirst(h);
+                IGameObject goB = chunk.circles.hitSecond(h);
+
+                contacts.touch(goA, goB);
+                physics.addContact(goA, goB);
+            }
+
+            chunk.circles.clear();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.IGameObject;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Lista densa de objetos de jogo em que cada objeto conhece a sua posição
+ * (slot) no array.
+ *
+ * <p>
+ * Como cada {@link IGameObject} guarda o seu próprio índice, as operações de
+ * pertença ({@link #contains(Object)}) e de remoção são O(1): a remoção troca o
+ * objeto removido com o último elemento, sem copiar o resto do array. A ordem
+ * dos elementos não é, por isso, preservada.
+ * </p>
+ *
+ * <p>
+ * Um objeto só pode pertencer a um {@code ObjectStore} de cada vez, uma vez
+ * que tem um único slot.
+ * </p>
+ *
+ * <p>
+ * Cada slot pode ainda ter um anexo ({@link #attachment(int)}), que acompanha
+ * o objeto quando este muda de slot, e um identificador inteiro
+ * ({@link #proxy(int)}) com o mesmo comportamento. A engine usa-os para
+ * guardar dados internos por objeto sem precisar de mapas.
+ * </p>
+ *
+ * @see IGameObject#slot()
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class ObjectStore extends AbstractList<IGameObject> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private IGameObject[] items;
+    private Object[] attachments;
+    private int[] proxies;
+    private int size;
+
+    public ObjectStore() {
+        this.items = new IGameObject[INITIAL_CAPACITY];
+        this.attachments = new Object[INITIAL_CAPACITY];
+        this.proxies = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    @Override
+    public IGameObject get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return this.items[index];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adiciona um objeto ao fim do array, atribuindo-lhe o slot correspondente.
+     *
+     * @param go Objeto a adicionar.
+     * @return {@code true} se o objeto foi adicionado, {@code false} se já lá
+     *         estava.
+     */
+    @Override
+    public boolean add(IGameObject go) {
+        if (this.contains(go)) {
+            return false;
+        }
+
+        if (this.size == this.items.length) {
+            this.items = Arrays.copyOf(this.items, this.size * 2);
+            this.attachments = Arrays.copyOf(this.attachments, this.size * 2);
+            this.proxies = Arrays.copyOf(this.proxies, this.size * 2);
+        }
+
+        this.items[this.size] = go;
+        this.proxies[this.size] = -1;
+        go.slot(this.size);
+        this.size++;
+        this.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Remove um objeto em O(1), movendo o último elemento para o slot livre.
+     *
+     * @param o Objeto a remover.
+     * @return {@code true} se o objeto foi removido, {@code false} se não
+     *         pertencia a esta lista.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!this.contains(o)) {
+            return false;
+        }
+
+        IGameObject go = (IGameObject) o;
+        int slot = go.slot();
+
+        IGameObject last = this.items[--this.size];
+        this.items[slot] = last;
+        this.attachments[slot] = this.attachments[this.size];
+        this.proxies[slot] = this.proxies[this.size];
+        last.slot(slot);
+
+        this.items[this.size] = null;
+        this.attachments[this.size] = null;
+        go.slot(-1);
+        this.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Retorna o anexo guardado no slot indicado.
+     *
+     * @param slot Índice do slot.
+     * @return O anexo, ou {@code null} se não existir.
+     */
+    public Object attachment(int slot) {
+        return this.attachments[slot];
+    }
+
+    /**
+     * Guarda um anexo no slot indicado; o anexo acompanha o objeto se este
+     * mudar de slot e é descartado quando o objeto é removido.
+     *
+     * @param slot  Índice do slot.
+     * @param value Anexo a guardar.
+     */
+    public void attach(int slot, Object value) {
+        this.attachments[slot] = value;
+    }
+
+    /**
+     * Retorna o identificador guardado no slot indicado.
+     *
+     * @param slot Índice do slot.
+     * @return O identificador, ou {@code -1} se não tiver sido definido.
+     */
+    public int proxy(int slot) {
+        return this.proxies[slot];
+    }
+
+    /**
+     * Guarda um identificador no slot indicado; tal como o anexo, acompanha o
+     * objeto se este mudar de slot.
+     *
+     * @param slot  Índice do slot.
+     * @param proxy Identificador a guardar.
+     */
+    public void proxy(int slot, int proxy) {
+        this.proxies[slot] = proxy;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof IGameObject)) {
+            return false;
+        }
+
+        int slot = ((IGameObject) o).slot();
+
+        return slot >= 0 && slot < this.size && this.items[slot] == o;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return this.contains(o) ? ((IGameObject) o).slot() : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return this.indexOf(o);
+    }
+}
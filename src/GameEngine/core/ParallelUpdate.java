@@ -0,0 +1,222 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.IConcurrentBehaviour;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IInputEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fase de atualização paralela dos comportamentos concorrentes
+ * ({@link IConcurrentBehaviour}).
+ *
+ * <p>
+ * Os objetos recolhidos com {@link #add(IGameObject)} são divididos em blocos
+ * contíguos, atualizados num {@link ForkJoinPool}; o primeiro bloco corre na
+ * própria thread do jogo. Cada bloco tem o seu {@link CommandBuffer}, que
+ * {@link #buffer()} devolve à thread que o está a atualizar, para onde a
+ * engine encaminha os pedidos feitos durante a fase. No fim,
+ * {@link #replay(CommandBuffer)} junta os buffers pela ordem dos blocos, ou
+ * seja, pela ordem dos objetos, como se tivessem sido atualizados um a um.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class ParallelUpdate {
+    /**
+     * Número mínimo de objetos por bloco.
+     */
+    public static final int DEFAULT_MIN_CHUNK = 64;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Bloco de objetos {@code [from, to)} com o seu buffer de pedidos. As
+     * tarefas são reutilizadas de tick para tick.
+     */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient CommandBuffer commands = new CommandBuffer();
+        private int from, to;
+
+        private void prepare(int from, int to) {
+            this.from = from;
+            this.to = to;
+            this.reinitialize();
+        }
+
+        @Override
+        protected void compute() {
+            IGameObject[] targets = ParallelUpdate.this.targets;
+            long deltaTime = ParallelUpdate.this.deltaTime;
+            IInputEvent input = ParallelUpdate.this.input;
+
+            ParallelUpdate.this.current.set(this.commands);
+
+            try {
+                for (int i = this.from; i < this.to; i++) {
+                    targets[i].behaviour().onUpdate(deltaTime, input);
+                }
+            } finally {
+                ParallelUpdate.this.current.set(null);
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final ArrayList<Chunk> chunks;
+    private final ThreadLocal<CommandBuffer> current;
+    private int minChunk;
+    private int chunkCount;
+
+    private IGameObject[] targets;
+    private int count;
+
+    // argumentos do tick em curso
+    private long deltaTime;
+    private IInputEvent input;
+
+    public ParallelUpdate() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria uma fase paralela que corre os blocos no pool indicado.
+     *
+     * @param pool Pool de threads a usar.
+     */
+    public ParallelUpdate(ForkJoinPool pool) {
+        this.pool = pool;
+        this.chunks = new ArrayList<>();
+        this.current = new ThreadLocal<>();
+        this.minChunk = DEFAULT_MIN_CHUNK;
+        this.chunkCount = 0;
+
+        this.targets = new IGameObject[INITIAL_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Define o número mínimo de objetos por bloco.
+     *
+     * @param minChunk Objetos por bloco.
+     */
+    public void setMinChunk(int minChunk) {
+        this.minChunk = Math.max(1, minChunk);
+    }
+
+    /**
+     * Acrescenta um objeto a atualizar na próxima chamada a
+     * {@link #run(long, IInputEvent)}.
+     *
+     * @param go Objeto com comportamento concorrente.
+     */
+    public void add(IGameObject go) {
+        if (this.count == this.targets.length) {
+            this.targets = Arrays.copyOf(this.targets, this.count * 2);
+        }
+
+        this.targets[this.count++] = go;
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Buffer de pedidos da thread atual, se estiver a atualizar um bloco.
+     *
+     * @return O buffer do bloco, ou {@code null} fora da fase paralela.
+     */
+    public CommandBuffer buffer() {
+        return this.current.get();
+    }
+
+    /**
+     * Atualiza os objetos recolhidos, repartidos pelas threads do pool.
+     *
+     * @param deltaTime Tempo do tick, em milissegundos.
+     * @param input     Evento de input do tick.
+     */
+    public void run(long deltaTime, IInputEvent input) {
+        if (this.count == 0) {
+            this.chunkCount = 0;
+            return;
+        }
+
+        // a thread do jogo tambem trabalha, por isso conta como mais uma
+        int workers = Math.min(this.pool.getParallelism() + 1, Runtime.getRuntime().availableProcessors());
+        this.chunkCount = Math.max(1, Math.min(workers, this.count / this.minChunk));
+
+        while (this.chunks.size() < this.chunkCount) {
+            this.chunks.add(new Chunk());
+        }
+
+        this.deltaTime = deltaTime;
+        this.input = input;
+
+        for (int k = 0; k < this.chunkCount; k++) {
+            this.chunks.get(k).prepare(
+                    (int) ((long) this.count * k / this.chunkCount),
+                    (int) ((long) this.count * (k + 1) / this.chunkCount));
+        }
+
+        for (int k = 1; k < this.chunkCount; k++) {
+            this.pool.execute(this.chunks.get(k));
+        }
+
+        try {
+            this.chunks.get(0).compute();
+        } finally {
+            for (int k = 1; k < this.chunkCount; k++) {
+                this.chunks.get(k).quietlyJoin();
+            }
+
+            this.input = null;
+        }
+
+        // volta a lancar na thread do jogo a excecao de algum bloco
+        for (int k = 1; k < this.chunkCount; k++) {
+            this.chunks.get(k).join();
+        }
+    }
+
+    /**
+     * Passa para {@code into}, pela ordem dos objetos, os pedidos feitos
+     * durante {@link #run(long, IInputEvent)}, e esquece os objetos recolhidos.
+     *
+     * <p>
+     * Os pedidos estruturais e as ações adiadas ({@link CommandBuffer#RUN})
+     * mantêm a ordem relativa, pelo que são aplicados no fim do tick tal como
+     * se os objetos tivessem sido atualizados um a um.
+     * </p>
+     *
+     * @param into Buffer que recebe os pedidos.
+     */
+    public void replay(CommandBuffer into) {
+        for (int k = 0; k < this.chunkCount; k++) {
+            CommandBuffer commands = this.chunks.get(k).commands;
+
+            for (int i = 0; i < commands.size(); i++) {
+                if (commands.op(i) == CommandBuffer.RUN) {
+                    into.add(commands.action(i));
+                } else {
+                    into.add(commands.op(i), commands.target(i));
+                }
+            }
+
+            commands.clear();
+        }
+
+        Arrays.fill(this.targets, 0, this.count, null);
+        this.count = 0;
+        this.chunkCount = 0;
+    }
+}
@@ -0,0 +1,268 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IGameEngine;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IPrefab;
+import GameEngine.interfaces.IRigidBody;
+import GameEngine.interfaces.ITransform;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Pool de objetos de jogo, separado por prefab ({@link IPrefab}).
+ *
+ * <p>
+ * {@link #spawn(IPrefab, double, double)} entrega um objeto livre do prefab,
+ * ou cria um novo se não houver nenhum, e ativa-o na engine. Quando um objeto
+ * entregue pelo pool é destruído ({@link IGameObject#destroy()}), a engine
+ * chama {@code onDestroy()} e devolve-o ao pool, com o seu transform,
+ * collider, shape e comportamento, em vez de o deixar para o garbage
+ * collector. Com {@link #prewarm(IPrefab, int)} os objetos podem ser criados
+ * antes de serem precisos, por exemplo durante o carregamento de um nível.
+ * </p>
+ *
+ * <p>
+ * Por prefab são contados os acertos (objetos reutilizados), as falhas
+ * (objetos criados por o pool estar vazio) e o máximo de objetos em uso ao
+ * mesmo tempo, que indica quantos vale a pena pré-criar.
+ * </p>
+ *
+ * @see GameEngine.interfaces.IGameEngine#prefabs()
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class PrefabPool {
+
+    /**
+     * Objetos livres e contadores de um prefab.
+     */
+    private static final class Bucket {
+        // objetos que ainda nao entraram na engine (recebem onInit)
+        private final ArrayDeque<IGameObject> fresh = new ArrayDeque<>();
+        // objetos que ja estiveram em uso (recebem onEnable)
+        private final ArrayDeque<IGameObject> used = new ArrayDeque<>();
+
+        private long hits;
+        private long misses;
+        private int live;
+        private int highWater;
+    }
+
+    private final IGameEngine engine;
+
+    private final Map<IPrefab, Bucket> buckets;
+    // prefab de cada objeto criado pelo pool, esteja livre ou em uso
+    private final Map<IGameObject, Bucket> owners;
+    // objetos entregues e ainda nao devolvidos
+    private final Map<IGameObject, Bucket> inUse;
+
+    public PrefabPool(IGameEngine engine) {
+        this.engine = engine;
+
+        // identidade: nao depende de equals/hashCode dos objetos e nao cria
+        // nos a cada insercao
+        this.buckets = new IdentityHashMap<>();
+        this.owners = new IdentityHashMap<>();
+        this.inUse = new IdentityHashMap<>();
+    }
+
+    /**
+     * Cria objetos do prefab até o pool ter pelo menos {@code count} livres.
+     *
+     * @param prefab Prefab a pré-criar.
+     * @param count  Número de objetos livres pretendido.
+     */
+    public void prewarm(IPrefab prefab, int count) {
+        Bucket bucket = this.bucket(prefab);
+
+        while (bucket.fresh.size() + bucket.used.size() < count) {
+            bucket.fresh.push(this.create(prefab, bucket));
+        }
+    }
+
+    /**
+     * Entrega um objeto do prefab na posição indicada e ativa-o na engine.
+     *
+     * <p>
+     * O objeto recebe {@code onInit()} se for a primeira vez que entra na
+     * engine, e {@code onEnable()} se for reutilizado. A velocidade do seu
+     * corpo rígido, se tiver, é posta a zero. Tal como os outros pedidos à
+     * engine, se for feito durante um tick o objeto só entra na engine no fim
+     * desse tick.
+     * </p>
+     *
+     * @param prefab Prefab do objeto.
+     * @param x      Abcissa da posição do objeto.
+     * @param y      Ordenada da posição do objeto.
+     * @return O objeto entregue.
+     */
+    public IGameObject spawn(IPrefab prefab, double x, double y) {
+        Bucket bucket = this.bucket(prefab);
+        IGameObject go;
+        boolean reused;
+
+        // os objetos usados ha menos tempo primeiro, que ainda estao em cache
+        if (!bucket.used.isEmpty()) {
+            go = bucket.used.pop();
+            reused = true;
+            bucket.hits++;
+        } else if (!bucket.fresh.isEmpty()) {
+            go = bucket.fresh.pop();
+            reused = false;
+            bucket.hits++;
+        } else {
+            go = this.create(prefab, bucket);
+            reused = false;
+            bucket.misses++;
+        }
+
+        this.place(go, x, y);
+
+        this.inUse.put(go, bucket);
+        bucket.live++;
+        bucket.highWater = Math.max(bucket.highWater, bucket.live);
+
+        if (reused) {
+            this.engine.enable(go);
+        } else {
+            this.engine.addEnabled(go);
+        }
+
+        return go;
+    }
+
+    /**
+     * Devolve ao pool um objeto que ele entregou. Chamado pela engine quando o
+     * objeto é destruído.
+     *
+     * @param go Objeto destruído.
+     * @return {@code true} se o objeto pertencia ao pool.
+     */
+    public boolean release(IGameObject go) {
+        Bucket bucket = this.inUse.remove(go);
+
+        if (bucket == null) {
+            return false;
+        }
+
+        bucket.live--;
+        bucket.used.push(go);
+
+        return true;
+    }
+
+    /**
+     * Verifica se um objeto foi criado por este pool.
+     *
+     * @param go Objeto a verificar.
+     * @return {@code true} se o objeto pertence ao pool.
+     */
+    public boolean owns(IGameObject go) {
+        return this.owners.containsKey(go);
+    }
+
+    /**
+     * Retorna o número de objetos do prefab entregues sem ser preciso criar
+     * um novo.
+     *
+     * @param prefab Prefab a consultar.
+     * @return Número de acertos.
+     */
+    public long hits(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+        return bucket == null ? 0 : bucket.hits;
+    }
+
+    /**
+     * Retorna o número de objetos do prefab criados por o pool estar vazio.
+     *
+     * @param prefab Prefab a consultar.
+     * @return Número de falhas.
+     */
+    public long misses(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+        return bucket == null ? 0 : bucket.misses;
+    }
+
+    /**
+     * Retorna o maior número de objetos do prefab que estiveram em uso ao
+     * mesmo tempo.
+     *
+     * @param prefab Prefab a consultar.
+     * @return Máximo de objetos em uso.
+     */
+    public int highWater(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+        return bucket == null ? 0 : bucket.highWater;
+    }
+
+    /**
+     * Retorna o número de objetos do prefab atualmente em uso.
+     *
+     * @param prefab Prefab a consultar.
+     * @return Objetos entregues e ainda não destruídos.
+     */
+    public int live(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+        return bucket == null ? 0 : bucket.live;
+    }
+
+    /**
+     * Retorna o número de objetos do prefab livres no pool.
+     *
+     * @param prefab Prefab a consultar.
+     * @return Objetos prontos a ser entregues.
+     */
+    public int available(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+        return bucket == null ? 0 : bucket.fresh.size() + bucket.used.size();
+    }
+
+    private Bucket bucket(IPrefab prefab) {
+        Bucket bucket = this.buckets.get(prefab);
+
+        if (bucket == null) {
+            bucket = new Bucket();
+            this.buckets.put(prefab, bucket);
+        }
+
+        return bucket;
+    }
+
+    private IGameObject create(IPrefab prefab, Bucket bucket) {
+        IGameObject go = prefab.instantiate();
+
+        this.owners.put(go, bucket);
+
+        return go;
+    }
+
+    /**
+     * Coloca o objeto na posição pedida, sem interpolar a partir da posição
+     * onde foi destruído, e atualiza o collider para a broadphase o inserir
+     * no sítio certo.
+     */
+    private void place(IGameObject go, double x, double y) {
+        ITransform transform = go.transform();
+
+        transform.getPosition().set(x, y);
+        transform.storePrevious();
+
+        ICollider collider = go.collider();
+        if (collider != null) {
+            collider.onUpdate();
+        }
+
+        IRigidBody body = go.rigidBody();
+        if (body != null) {
+            body.velocity(0, 0);
+            body.wake();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.IGameObject;
+
+/**
+ * Resultado de um raio lançado com
+ * {@link GameEngine.interfaces.IGameEngine#raycast(double, double, double, double, double, long, RaycastHit)}.
+ *
+ * <p>
+ * O objeto é fornecido por quem faz a pergunta e reescrito em cada raio que
+ * acerta, para que as consultas não criem objetos novos; pode ser reutilizado
+ * de tick para tick.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class RaycastHit {
+    private IGameObject object;
+    private double distance;
+    private double x, y;
+    private double normalX, normalY;
+
+    /**
+     * Preenche o resultado.
+     *
+     * @param object   Objeto atingido.
+     * @param distance Distância desde a origem do raio.
+     * @param x        Abcissa do ponto de impacto.
+     * @param y        Ordenada do ponto de impacto.
+     * @param normalX  Abcissa da normal unitária da superfície atingida.
+     * @param normalY  Ordenada da normal unitária da superfície atingida.
+     */
+    public void set(IGameObject object, double distance, double x, double y, double normalX, double normalY) {
+        this.object = object;
+        this.distance = distance;
+        this.x = x;
+        this.y = y;
+        this.normalX = normalX;
+        this.normalY = normalY;
+    }
+
+    /**
+     * Esquece o objeto atingido, para não manter a referência.
+     */
+    public void clear() {
+        this.object = null;
+    }
+
+    public IGameObject object() {
+        return this.object;
+    }
+
+    public double distance() {
+        return this.distance;
+    }
+
+    public double x() {
+        return this.x;
+    }
+
+    public double y() {
+        return this.y;
+    }
+
+    public double normalX() {
+        return this.normalX;
+    }
+
+    public double normalY() {
+        return this.normalY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s at (%.2f,%.2f) d=%.2f n=(%.2f,%.2f)", this.object == null ? null : this.object.name(),
+                this.x, this.y, this.distance, this.normalX, this.normalY);
+    }
+}
@@ -0,0 +1,224 @@
+package GameEngine.core;
+
+import GameEngine.interfaces.IGameObject;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Lista de renderização dos objetos ativos, organizada por camadas (layers).
+ *
+ * <p>
+ * Em vez de ordenar todos os objetos em cada frame, a engine mantém um balde
+ * por camada e só o altera quando um objeto é ativado, desativado ou muda de
+ * camada. Os baldes estão ordenados por camada, pelo que percorrer esta lista
+ * com {@link #get(int)} devolve os objetos pela ordem de desenho, sem criar
+ * nenhum objeto novo.
+ * </p>
+ *
+ * <p>
+ * Dentro da mesma camada a ordem não é garantida: a remoção de um objeto move
+ * o último objeto dessa camada para o seu lugar.
+ * </p>
+ *
+ * @see GameEngine.interfaces.ITransform#layer()
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class RenderLayers extends AbstractList<IGameObject> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Posição de um objeto dentro dos baldes. A engine guarda-a como anexo do
+     * slot do objeto, para não precisar de a procurar.
+     */
+    public static final class Entry {
+        private final IGameObject go;
+        private int layer;
+        private int index;
+        private long version;
+
+        private Entry(IGameObject go) {
+            this.go = go;
+        }
+    }
+
+    private static final class Bucket {
+        private final int layer;
+        private Entry[] entries;
+        private int size;
+
+        private Bucket(int layer) {
+            this.layer = layer;
+            this.entries = new Entry[INITIAL_CAPACITY];
+            this.size = 0;
+        }
+
+        private void push(Entry e) {
+            if (this.size == this.entries.length) {
+                this.entries = Arrays.copyOf(this.entries, this.size * 2);
+            }
+
+            e.index = this.size;
+            this.entries[this.size++] = e;
+        }
+
+        private void remove(Entry e) {
+            Entry last = this.entries[--this.size];
+            this.entries[e.index] = last;
+            last.index = e.index;
+            this.entries[this.size] = null;
+        }
+    }
+
+    private Bucket[] buckets;
+    private int bucketCount;
+
+    // offsets[i] = numero de objetos nos baldes anteriores ao balde i
+    private int[] offsets;
+    private boolean offsetsDirty;
+
+    private int size;
+
+    public RenderLayers() {
+        this.buckets = new Bucket[INITIAL_CAPACITY];
+        this.offsets = new int[INITIAL_CAPACITY];
+        this.bucketCount = 0;
+        this.offsetsDirty = false;
+        this.size = 0;
+    }
+
+    /**
+     * Insere um objeto no balde da sua camada atual.
+     *
+     * @param go Objeto a inserir.
+     * @return A entrada que identifica o objeto nos baldes.
+     */
+    public Entry insert(IGameObject go) {
+        Entry e = new Entry(go);
+        e.layer = go.transform().layer();
+        e.version = go.transform().version();
+
+        this.bucket(e.layer).push(e);
+        this.size++;
+        this.offsetsDirty = true;
+
+        return e;
+    }
+
+    /**
+     * Remove um objeto dos baldes.
+     *
+     * @param e A entrada devolvida por {@link #insert(IGameObject)}.
+     */
+    public void delete(Entry e) {
+        this.bucket(e.layer).remove(e);
+        this.size--;
+        this.offsetsDirty = true;
+    }
+
+    /**
+     * Move o objeto para outro balde se a sua camada tiver mudado desde a última
+     * vez que foi inserido. Objetos cujo transform não mudou são ignorados.
+     *
+     * @param e A entrada do objeto.
+     */
+    public void refresh(Entry e) {
+        long version = e.go.transform().version();
+
+        if (version == e.version) {
+            return;
+        }
+
+        e.version = version;
+
+        int layer = e.go.transform().layer();
+
+        if (layer == e.layer) {
+            return;
+        }
+
+        this.bucket(e.layer).remove(e);
+        e.layer = layer;
+        this.bucket(layer).push(e);
+        this.offsetsDirty = true;
+    }
+
+    @Override
+    public IGameObject get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        if (this.offsetsDirty) {
+            this.updateOffsets();
+        }
+
+        // ultimo balde cujo offset e <= index; nunca e um balde vazio, porque
+        // esse partilharia o offset com o balde seguinte
+        int lo = 0, hi = this.bucketCount - 1;
+
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+
+            if (this.offsets[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        return this.buckets[lo].entries[index - this.offsets[lo]].go;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void updateOffsets() {
+        int total = 0;
+
+        for (int i = 0; i < this.bucketCount; i++) {
+            this.offsets[i] = total;
+            total += this.buckets[i].size;
+        }
+
+        this.offsetsDirty = false;
+    }
+
+    /**
+     * Procura (ou cria) o balde de uma camada, mantendo os baldes ordenados.
+     */
+    private Bucket bucket(int layer) {
+        int lo = 0, hi = this.bucketCount - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midLayer = this.buckets[mid].layer;
+
+            if (midLayer == layer) {
+                return this.buckets[mid];
+            } else if (midLayer < layer) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        if (this.bucketCount == this.buckets.length) {
+            this.buckets = Arrays.copyOf(this.buckets, this.bucketCount * 2);
+            this.offsets = Arrays.copyOf(this.offsets, this.bucketCount * 2);
+        }
+
+        System.arraycopy(this.buckets, lo, this.buckets, lo + 1, this.bucketCount - lo);
+        this.buckets[lo] = new Bucket(layer);
+        this.bucketCount++;
+
+        return this.buckets[lo];
+    }
+}
@@ -0,0 +1,271 @@
+package GameEngine.core;
+
+import GameEngine.core.utils.Point;
+import GameEngine.gui.loader.AtlasRegion;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IShape;
+import GameEngine.interfaces.ITransform;
+import java.awt.Image;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cópia do estado de desenho da lista de renderização num dado momento.
+ *
+ * <p>
+ * A thread do jogo preenche o snapshot com {@link #capture(List, double,
+ * boolean)}; a partir daí quem desenha só lê o snapshot e nunca os objetos,
+ * que podem continuar a ser alterados pela simulação. Para cada objeto, pela
+ * ordem de desenho, guarda a imagem do frame e o espelho, a camada, o
+ * deslocamento da forma, a parte linear e a posição do transform atual e o
+ * estado do tick anterior, para a interpolação. Os dados ficam em arrays
+ * paralelos que crescem conforme necessário e são reutilizados de frame para
+ * frame.
+ * </p>
+ *
+ * @see SnapshotRing
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class RenderSnapshot {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private double alpha;
+    private long sequence;
+
+    private Image[] images;
+    private AtlasRegion[] regions;
+    private boolean[] mirrored;
+    private int[] layers;
+    private double[] offsetX, offsetY;
+
+    // transform atual: parte linear e posicao
+    private double[] m00, m01, m10, m11;
+    private double[] x, y;
+
+    private double[] angle, scale;
+
+    // estado do tick anterior, so preenchido para objetos que mudaram
+    private boolean[] moved;
+    private double[] previousX, previousY, previousAngle, previousScale;
+
+    private java.awt.Shape[] colliders;
+
+    public RenderSnapshot() {
+        this.size = 0;
+        this.alpha = 1.0;
+        this.sequence = 0;
+
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Copia o estado de desenho dos objetos. Só deve ser chamado pela thread
+     * do jogo, fora de um tick.
+     *
+     * @param objects   Objetos pela ordem de desenho.
+     * @param alpha     Fator de interpolação a usar ao desenhar.
+     * @param colliders {@code true} para copiar também a forma dos colliders.
+     */
+    public void capture(List<IGameObject> objects, double alpha, boolean colliders) {
+        int count = objects.size();
+
+        if (count > this.images.length) {
+            this.allocate(Math.max(count, this.images.length * 2));
+        }
+
+        for (int i = 0; i < count; i++) {
+            IGameObject go = objects.get(i);
+            IShape shape = go.shape();
+            ITransform transform = go.transform();
+            double[] m = transform.matrix();
+
+            this.images[i] = shape.getFrame();
+            this.regions[i] = shape.getRegion();
+            this.mirrored[i] = shape.isMirrored();
+            this.layers[i] = transform.layer();
+            this.offsetX[i] = shape.getRelativePosition().getX();
+            this.offsetY[i] = shape.getRelativePosition().getY();
+
+            this.m00[i] = m[0];
+            this.m01[i] = m[1];
+            this.m10[i] = m[3];
+            this.m11[i] = m[4];
+            this.x[i] = m[2];
+            this.y[i] = m[5];
+
+            // compara as coordenadas: as vistas da posicao e da posicao
+            // anterior podem ser de classes diferentes e equals daria falso
+            Point previous = transform.getPreviousPosition();
+            Point position = transform.getPosition();
+
+            this.moved[i] = previous.getX() != position.getX() || previous.getY() != position.getY()
+                    || transform.previousAngle() != transform.angle()
+                    || transform.previousScale() != transform.scale();
+
+            this.angle[i] = transform.angle();
+            this.scale[i] = transform.scale();
+
+            if (this.moved[i]) {
+                this.previousX[i] = previous.getX();
+                this.previousY[i] = previous.getY();
+                this.previousAngle[i] = transform.previousAngle();
+                this.previousScale[i] = transform.previousScale();
+            }
+
+            this.colliders[i] = colliders && go.collider() != null ? go.collider().getShape() : null;
+        }
+
+        // larga as imagens e formas de objetos que ja nao estao na lista
+        Arrays.fill(this.images, count, Math.max(count, this.size), null);
+        Arrays.fill(this.regions, count, Math.max(count, this.size), null);
+        Arrays.fill(this.colliders, count, Math.max(count, this.size), null);
+
+        this.size = count;
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
+        this.sequence++;
+    }
+
+    private void allocate(int capacity) {
+        this.images = this.images == null ? new Image[capacity] : Arrays.copyOf(this.images, capacity);
+        this.regions = this.regions == null ? new AtlasRegion[capacity] : Arrays.copyOf(this.regions, capacity);
+        this.colliders = this.colliders == null ? new java.awt.Shape[capacity]
+                : Arrays.copyOf(this.colliders, capacity);
+
+        this.mirrored = new boolean[capacity];
+        this.layers = new int[capacity];
+        this.offsetX = new double[capacity];
+        this.offsetY = new double[capacity];
+        this.m00 = new double[capacity];
+        this.m01 = new double[capacity];
+        this.m10 = new double[capacity];
+        this.m11 = new double[capacity];
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.moved = new boolean[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.previousAngle = new double[capacity];
+        this.previousScale = new double[capacity];
+        this.angle = new double[capacity];
+        this.scale = new double[capacity];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public double alpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Número de capturas feitas neste snapshot; serve para quem desenha saber
+     * se já desenhou este estado.
+     *
+     * @return O número da última captura.
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
+    public Image image(int i) {
+        return this.images[i];
+    }
+
+    /**
+     * Região do frame {@code i} numa página de atlas.
+     *
+     * @param i Índice do objeto.
+     * @return A região, ou {@code null} se o frame não for uma região.
+     */
+    public AtlasRegion region(int i) {
+        return this.regions[i];
+    }
+
+    public boolean mirrored(int i) {
+        return this.mirrored[i];
+    }
+
+    public int layer(int i) {
+        return this.layers[i];
+    }
+
+    public double offsetX(int i) {
+        return this.offsetX[i];
+    }
+
+    public double offsetY(int i) {
+        return this.offsetY[i];
+    }
+
+    public double m00(int i) {
+        return this.m00[i];
+    }
+
+    public double m01(int i) {
+        return this.m01[i];
+    }
+
+    public double m10(int i) {
+        return this.m10[i];
+    }
+
+    public double m11(int i) {
+        return this.m11[i];
+    }
+
+    public double x(int i) {
+        return this.x[i];
+    }
+
+    public double y(int i) {
+        return this.y[i];
+    }
+
+    /**
+     * Indica se o transform do objeto mudou no último tick, ou seja, se há
+     * algo a interpolar.
+     */
+    public boolean moved(int i) {
+        return this.moved[i];
+    }
+
+    public double previousX(int i) {
+        return this.previousX[i];
+    }
+
+    public double previousY(int i) {
+        return this.previousY[i];
+    }
+
+    public double previousAngle(int i) {
+        return this.previousAngle[i];
+    }
+
+    public double previousScale(int i) {
+        return this.previousScale[i];
+    }
+
+    public double angle(int i) {
+        return this.angle[i];
+    }
+
+    public double scale(int i) {
+        return this.scale[i];
+    }
+
+    /**
+     * Forma do collider do objeto, se foi pedida na captura.
+     *
+     * @return A forma, ou {@code null}.
+     */
+    public java.awt.Shape collider(int i) {
+        return this.colliders[i];
+    }
+}
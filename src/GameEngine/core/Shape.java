@@ -1,7 +1,8 @@
 package GameEngine.core;
 
 import GameEngine.core.utils.Point;
-import GameEngine.gui.loader.ImageLoader;
+import GameEngine.gui.loader.AtlasRegion;
+import GameEngine.gui.loader.SpriteCache;
 import GameEngine.interfaces.IShape;
 import GameEngine.interfaces.IText;
 import java.awt.Image;
@@ -31,6 +32,8 @@ import java.util.List;
  */
 public class Shape implements IShape {
     private List<BufferedImage> frames;
+    // regiao de cada frame numa pagina, ou null
+    private AtlasRegion[] regions;
     private Point relativePosition;
 
     private int numberOfFrames;
@@ -43,6 +46,7 @@ public class Shape implements IShape {
 
     public Shape(BufferedImage image, int offsetX, int offsetY) {
         this.frames = List.of(image);
+        this.regions = regionsOf(this.frames);
         this.relativePosition = new Point(offsetX, offsetY);
         this.numberOfFrames = 1;
         this.currentFrame = 0;
@@ -52,6 +56,7 @@ public class Shape implements IShape {
 
     public Shape(List<BufferedImage> frames) {
         this.frames = frames;
+        this.regions = regionsOf(frames);
         this.relativePosition = new Point(
             (int) (-frames.get(0).getWidth()/2), 
             (int) (-frames.get(0).getHeight()/2)
@@ -64,6 +69,7 @@ public class Shape implements IShape {
 
     public Shape(List<BufferedImage> frames, int offsetX, int offsetY) {
         this.frames = frames;
+        this.regions = regionsOf(frames);
         this.relativePosition = new Point(offsetX, offsetY);
         this.numberOfFrames = frames.size();
         this.currentFrame = 0;
@@ -78,6 +84,20 @@ public class Shape implements IShape {
         this.isText = true;
     }
 
+    /**
+     * Procura uma única vez a região de cada frame, em vez de quem desenha a
+     * procurar no registo partilhado em todos os frames.
+     */
+    private static AtlasRegion[] regionsOf(List<BufferedImage> frames) {
+        AtlasRegion[] regions = new AtlasRegion[frames.size()];
+
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = AtlasRegion.of(frames.get(i));
+        }
+
+        return regions;
+    }
+
     @Override
     public Image getCurrentShape() {
         if (this.isText) {
@@ -85,11 +105,32 @@ public class Shape implements IShape {
         }
 
         BufferedImage image = this.frames.get(currentFrame);
-        if (this.mirrored) image = ImageLoader.flipHorizontal(image);
+
+        // o frame espelhado e gerado uma vez e guardado na cache
+        if (this.mirrored) image = SpriteCache.shared().mirrored(image);
         
         return image;
     }
 
+    @Override
+    public Image getFrame() {
+        if (this.isText) {
+            return this.text.getShape();
+        }
+
+        return this.frames.get(this.currentFrame);
+    }
+
+    @Override
+    public AtlasRegion getRegion() {
+        return this.isText ? null : this.regions[this.currentFrame];
+    }
+
+    @Override
+    public boolean isMirrored() {
+        return !this.isText && this.mirrored;
+    }
+
     @Override
     public Point getRelativePosition() {
         return this.relativePosition;
@@ -0,0 +1,108 @@
+package GameEngine.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Anel de três {@link RenderSnapshot}s partilhado entre a thread do jogo, que
+ * os escreve, e uma única thread de desenho, que os lê.
+ *
+ * <p>
+ * Em cada momento um slot está a ser escrito, outro a ser desenhado e o
+ * terceiro guarda o último snapshot publicado. Publicar troca o slot escrito
+ * pelo publicado; ler troca o slot desenhado pelo publicado, se houver um
+ * novo. Nenhuma das threads espera pela outra: a simulação calcula o frame
+ * {@code N+1} enquanto o frame {@code N} é desenhado, e se o desenho for mais
+ * lento os snapshots intermédios são simplesmente substituídos.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class SnapshotRing {
+    private static final int INDEX = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final RenderSnapshot[] slots;
+
+    // slot publicado, com o bit FRESH enquanto ninguem o leu
+    private final AtomicInteger ready;
+
+    private int write; // so usado pela thread do jogo
+    private int read; // so usado pela thread de desenho
+
+    private volatile boolean colliders;
+
+    public SnapshotRing() {
+        this.slots = new RenderSnapshot[] { new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot() };
+        this.ready = new AtomicInteger(2);
+        this.write = 0;
+        this.read = 1;
+        this.colliders = false;
+    }
+
+    /**
+     * Snapshot onde a thread do jogo deve escrever o próximo frame.
+     *
+     * @return O snapshot livre para escrita.
+     */
+    public RenderSnapshot acquire() {
+        return this.slots[this.write];
+    }
+
+    /**
+     * Publica o snapshot devolvido por {@link #acquire()}.
+     */
+    public void publish() {
+        this.write = this.ready.getAndSet(this.write | FRESH) & INDEX;
+
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * Snapshot mais recente para desenhar. O snapshot devolvido não é alterado
+     * até à próxima chamada a {@link #latest()} ou {@link #take()}.
+     *
+     * @return O último snapshot publicado, ou o que já estava a ser desenhado
+     *         se não houver nenhum novo.
+     */
+    public RenderSnapshot latest() {
+        if ((this.ready.get() & FRESH) != 0) {
+            this.read = this.ready.getAndSet(this.read) & INDEX;
+        }
+
+        return this.slots[this.read];
+    }
+
+    /**
+     * Espera que seja publicado um snapshot novo e devolve-o.
+     *
+     * @return O último snapshot publicado.
+     * @throws InterruptedException Se a thread for interrompida enquanto
+     *                              espera.
+     */
+    public RenderSnapshot take() throws InterruptedException {
+        synchronized (this) {
+            while ((this.ready.get() & FRESH) == 0) {
+                this.wait();
+            }
+        }
+
+        return this.latest();
+    }
+
+    /**
+     * Indica se as capturas devem incluir a forma dos colliders.
+     */
+    public boolean capturesColliders() {
+        return this.colliders;
+    }
+
+    public void captureColliders(boolean status) {
+        this.colliders = status;
+    }
+}
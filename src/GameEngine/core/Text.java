@@ -7,6 +7,7 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.util.Objects;
 
 import GameEngine.interfaces.IText;
 
@@ -35,16 +36,36 @@ public class Text implements IText {
     private int size;
     private Color color;
 
+    // imagem do texto atual, refeita so quando o texto, o tamanho ou a cor
+    // mudam
+    private BufferedImage image;
+    private final boolean useAtlas;
+
     public Text(String str, int size) {
-        this.text = str;
-        this.size = size;
-        this.color = Color.WHITE;
+        this(str, size, Color.WHITE);
     }
 
     public Text(String str, int size, Color color) {
+        this(str, size, color, false);
+    }
+
+    /**
+     * Cria um texto que, se {@code useAtlas} for {@code true}, é composto a
+     * partir do {@link GlyphAtlas} partilhado do seu tamanho em vez de ser
+     * rasterizado de novo sempre que muda. Indicado para textos que mudam com
+     * frequência, como pontuações.
+     *
+     * @param str      Texto a mostrar.
+     * @param size     Tamanho da letra.
+     * @param color    Cor da letra.
+     * @param useAtlas {@code true} para compor o texto a partir do atlas.
+     */
+    public Text(String str, int size, Color color, boolean useAtlas) {
         this.text = str;
         this.size = size;
         this.color = color;
+        this.image = null;
+        this.useAtlas = useAtlas;
     }
 
     private BufferedImage stringToImage() {
@@ -82,21 +103,30 @@ public class Text implements IText {
 
     @Override
     public void setText(String str) {
-        this.text = str;
+        if (!Objects.equals(str, this.text)) {
+            this.text = str;
+            this.image = null;
+        }
     }
 
     @Override
     public void setSize(int size) {
         if (size <= 0) {
-            this.size = 0;
-        } else {
+            size = 0;
+        }
+
+        if (size != this.size) {
             this.size = size;
+            this.image = null;
         }
     }
 
     @Override
     public void setColor(Color color) {
-        this.color = color;
+        if (!Objects.equals(color, this.color)) {
+            this.color = color;
+            this.image = null;
+        }
     }
 
     @Override
@@ -111,6 +141,14 @@ public class Text implements IText {
 
     @Override
     public BufferedImage getShape() {
-        return this.stringToImage();
+        if (this.image == null) {
+            if (this.useAtlas && this.size > 0 && GlyphAtlas.get(this.size).covers(this.text)) {
+                this.image = GlyphAtlas.get(this.size).render(this.text, this.color);
+            } else {
+                this.image = this.stringToImage();
+            }
+        }
+
+        return this.image;
     }
 }
@@ -0,0 +1,380 @@
+package GameEngine.core;
+
+import GameEngine.core.utils.Point;
+import GameEngine.interfaces.ICollider;
+
+/**
+ * Calcula o instante de impacto (time of impact) entre dois colliders que se
+ * movem em linha reta durante um tick.
+ *
+ * <p>
+ * Os colliders estão na pose do fim do tick e cada um percorreu, durante o
+ * tick, o deslocamento indicado. O instante devolvido está em {@code [0, 1]}:
+ * {@code 0} é o início do tick e {@code 1} o fim. O primeiro collider fica, no
+ * instante devolvido, a uma pequena distância ({@link #SKIN}) do segundo, sem
+ * nunca o penetrar.
+ * </p>
+ *
+ * <ul>
+ * <li>Círculo contra círculo: raio contra o círculo de raio somado (exato).</li>
+ * <li>Círculo contra polígono: círculo varrido, isto é, o raio do centro
+ * contra o polígono alargado pelo raio (arestas deslocadas e vértices
+ * arredondados).</li>
+ * <li>Polígono contra polígono: avanço conservador, que avança o tempo pela
+ * distância atual dividida pela velocidade de aproximação ao longo da normal
+ * dos pontos mais próximos.</li>
+ * </ul>
+ *
+ * <p>
+ * Só a translação é varrida: a rotação e a escala são as do fim do tick. Tal
+ * como o resto da narrowphase, os polígonos são tratados como convexos.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class TimeOfImpact {
+    public static final double NO_HIT = Double.POSITIVE_INFINITY;
+
+    /**
+     * Distância a que o primeiro collider fica do segundo no instante de
+     * impacto.
+     */
+    public static final double SKIN = 0.05;
+
+    private static final int MAX_ITERATIONS = 32;
+    private static final double TOLERANCE = 1e-9;
+
+    private double normalX, normalY;
+
+    // resultado de polyDistance
+    private double distNX, distNY;
+
+    /**
+     * Normal do contacto do último impacto encontrado, do primeiro collider
+     * para o segundo.
+     *
+     * @return Componente {@code x} da normal.
+     */
+    public double normalX() {
+        return this.normalX;
+    }
+
+    /**
+     * @return Componente {@code y} da normal do último impacto.
+     * @see #normalX()
+     */
+    public double normalY() {
+        return this.normalY;
+    }
+
+    /**
+     * Calcula o instante de impacto entre dois colliders.
+     *
+     * @param a   Collider que se move, na pose do fim do tick.
+     * @param dax Deslocamento de {@code a} em {@code x} durante o tick.
+     * @param day Deslocamento de {@code a} em {@code y} durante o tick.
+     * @param b   Outro collider, na pose do fim do tick.
+     * @param dbx Deslocamento de {@code b} em {@code x} durante o tick.
+     * @param dby Deslocamento de {@code b} em {@code y} durante o tick.
+     * @return Instante de impacto em {@code [0, 1]}, ou {@link #NO_HIT} se os
+     *         colliders não se tocarem durante o tick ou se se estiverem a
+     *         afastar.
+     */
+    public double compute(ICollider a, double dax, double day, ICollider b, double dbx, double dby) {
+        // movimento de a visto por b
+        double rx = dax - dbx;
+        double ry = day - dby;
+
+        if (rx * rx + ry * ry < TOLERANCE) {
+            return NO_HIT;
+        }
+
+        if (a instanceof CollCircle && b instanceof CollCircle) {
+            return this.circleCircle((CollCircle) a, (CollCircle) b, rx, ry);
+        }
+
+        if (a instanceof CollCircle && b instanceof CollPoly) {
+            CollCircle c = (CollCircle) a;
+
+            return this.sweptCircle(c.getCenter().getX() - rx, c.getCenter().getY() - ry, rx, ry,
+                    c.getRadius(), (CollPoly) b, false);
+        }
+
+        if (a instanceof CollPoly && b instanceof CollCircle) {
+            // o circulo move-se no sentido contrario em relacao ao poligono
+            CollCircle c = (CollCircle) b;
+
+            return this.sweptCircle(c.getCenter().getX() + rx, c.getCenter().getY() + ry, -rx, -ry,
+                    c.getRadius(), (CollPoly) a, true);
+        }
+
+        if (a instanceof CollPoly && b instanceof CollPoly) {
+            return this.advance((CollPoly) a, (CollPoly) b, rx, ry);
+        }
+
+        return NO_HIT;
+    }
+
+    private double circleCircle(CollCircle a, CollCircle b, double rx, double ry) {
+        double radius = a.getRadius() + b.getRadius() + SKIN;
+
+        // centro de a relativo a b no inicio do tick
+        double qx = a.getCenter().getX() - b.getCenter().getX() - rx;
+        double qy = a.getCenter().getY() - b.getCenter().getY() - ry;
+
+        double hit = rayCircle(qx, qy, rx, ry, radius);
+
+        if (hit == NO_HIT) {
+            return NO_HIT;
+        }
+
+        double nx = -(qx + rx * hit), ny = -(qy + ry * hit);
+        double len = Math.sqrt(nx * nx + ny * ny);
+
+        this.normalX = nx / len;
+        this.normalY = ny / len;
+
+        return hit;
+    }
+
+    /**
+     * Primeiro instante em {@code [0, 1]} em que o ponto {@code q + r * t}
+     * fica à distância {@code radius} da origem, a aproximar-se.
+     */
+    private static double rayCircle(double qx, double qy, double rx, double ry, double radius) {
+        double a = rx * rx + ry * ry;
+        double b = 2 * (qx * rx + qy * ry);
+        double c = qx * qx + qy * qy - radius * radius;
+
+        if (c <= 0) {
+            // ja estava dentro do raio: so conta se estiver a aproximar-se
+            return b < 0 ? 0 : NO_HIT;
+        }
+
+        double disc = b * b - 4 * a * c;
+
+        if (disc < 0) {
+            return NO_HIT;
+        }
+
+        double t = (-b - Math.sqrt(disc)) / (2 * a);
+
+        return t >= 0 && t <= 1 ? t : NO_HIT;
+    }
+
+    /**
+     * Círculo varrido contra um polígono parado. O centro parte de
+     * {@code (px, py)} e desloca-se {@code (rx, ry)}.
+     *
+     * @param flip Se {@code true}, a normal é invertida (o círculo é o segundo
+     *             collider).
+     */
+    private double sweptCircle(double px, double py, double rx, double ry, double radius, CollPoly poly,
+            boolean flip) {
+        Point[] v = poly.getVertices();
+        int n = poly.getNumVertices();
+        double r = radius + SKIN;
+
+        // sentido dos vertices, para saber de que lado fica o exterior das arestas
+        double area = 0;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            area += v[j].getX() * v[i].getY() - v[i].getX() * v[j].getY();
+        }
+
+        double side = area > 0 ? 1 : -1;
+        double best = NO_HIT, nx = 0, ny = 0;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double ax = v[j].getX(), ay = v[j].getY();
+            double ex = v[i].getX() - ax, ey = v[i].getY() - ay;
+            double len = Math.sqrt(ex * ex + ey * ey);
+
+            if (len < TOLERANCE) {
+                continue;
+            }
+
+            // normal exterior da aresta
+            double ox = side * ey / len, oy = -side * ex / len;
+            double approach = rx * ox + ry * oy;
+            double gap = (px - ax) * ox + (py - ay) * oy - r;
+
+            if (approach < 0 && gap >= -SKIN) {
+                // instante em que o centro atravessa a aresta deslocada (ou 0, se
+                // ja estiver encostado a ela)
+                double t = Math.max(0, -gap / approach);
+                double s = ((px + rx * t - ax) * ex + (py + ry * t - ay) * ey) / (len * len);
+
+                if (t <= 1 && s >= 0 && s <= 1 && t < best) {
+                    best = t;
+                    nx = -ox;
+                    ny = -oy;
+                }
+            }
+
+            // canto arredondado no vertice
+            double t = rayCircle(px - ax, py - ay, rx, ry, r);
+
+            if (t < best) {
+                double cx = px + rx * t - ax, cy = py + ry * t - ay;
+                double clen = Math.sqrt(cx * cx + cy * cy);
+
+                best = t;
+                nx = clen < TOLERANCE ? -ox : -cx / clen;
+                ny = clen < TOLERANCE ? -oy : -cy / clen;
+            }
+        }
+
+        if (best == NO_HIT) {
+            return NO_HIT;
+        }
+
+        this.normalX = flip ? -nx : nx;
+        this.normalY = flip ? -ny : ny;
+
+        return best;
+    }
+
+    /**
+     * Avanço conservador entre dois polígonos: {@code a} desloca-se
+     * {@code (rx, ry)} em relação a {@code b}.
+     */
+    private double advance(CollPoly a, CollPoly b, double rx, double ry) {
+        double t = 0;
+
+        for (int its = 0; its < MAX_ITERATIONS; its++) {
+            double dist = this.polyDistance(a, -rx * (1 - t), -ry * (1 - t), b);
+            double approach = rx * this.distNX + ry * this.distNY;
+
+            if (approach <= TOLERANCE) {
+                // a distancia ao longo da normal ja nao diminui
+                return NO_HIT;
+            }
+
+            if (dist <= 2 * SKIN) {
+                this.normalX = this.distNX;
+                this.normalY = this.distNY;
+                return t;
+            }
+
+            // ao longo da normal os poligonos aproximam-se no maximo approach por
+            // unidade de tempo, pelo que este passo nunca os faz penetrar
+            t += (dist - SKIN) / approach;
+
+            if (t > 1) {
+                return NO_HIT;
+            }
+        }
+
+        return NO_HIT;
+    }
+
+    /**
+     * Distância entre o polígono {@code a}, deslocado de {@code (ox, oy)}, e o
+     * polígono {@code b}. A normal (de {@code a} para {@code b}) fica em
+     * {@code distNX}/{@code distNY}. Se os polígonos se intersetarem a distância
+     * é {@code 0} e a normal aponta do centro de {@code a} para o de
+     * {@code b}.
+     */
+    private double polyDistance(CollPoly a, double ox, double oy, CollPoly b) {
+        Point[] va = a.getVertices(), vb = b.getVertices();
+        int na = a.getNumVertices(), nb = b.getNumVertices();
+        double best = Double.POSITIVE_INFINITY;
+        boolean crossing = false;
+
+        for (int i = 0, pi = na - 1; i < na && !crossing; pi = i++) {
+            double p1x = va[pi].getX() + ox, p1y = va[pi].getY() + oy;
+            double p2x = va[i].getX() + ox, p2y = va[i].getY() + oy;
+
+            for (int j = 0, pj = nb - 1; j < nb; pj = j++) {
+                double q1x = vb[pj].getX(), q1y = vb[pj].getY();
+                double q2x = vb[j].getX(), q2y = vb[j].getY();
+
+                if (segmentsCross(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y)) {
+                    crossing = true;
+                    break;
+                }
+
+                // vertice de a contra aresta de b e vertice de b contra aresta de a
+                best = this.closer(best, p2x, p2y, q1x, q1y, q2x, q2y, 1);
+                best = this.closer(best, q2x, q2y, p1x, p1y, p2x, p2y, -1);
+            }
+        }
+
+        if (crossing || contains(vb, nb, va[0].getX() + ox, va[0].getY() + oy, 0, 0)
+                || contains(va, na, vb[0].getX(), vb[0].getY(), ox, oy)) {
+            double dx = b.centerX - (a.centerX + ox);
+            double dy = b.centerY - (a.centerY + oy);
+            double len = Math.sqrt(dx * dx + dy * dy);
+
+            this.distNX = len < TOLERANCE ? 1 : dx / len;
+            this.distNY = len < TOLERANCE ? 0 : dy / len;
+            return 0;
+        }
+
+        return best;
+    }
+
+    /**
+     * Compara a distância do ponto {@code p} ao segmento {@code s1 s2} com a
+     * melhor até agora e, se for menor, guarda a normal. {@code sign} é
+     * {@code 1} se o ponto for do primeiro polígono e {@code -1} se for do
+     * segundo.
+     */
+    private double closer(double best, double px, double py, double s1x, double s1y, double s2x, double s2y,
+            int sign) {
+        double ex = s2x - s1x, ey = s2y - s1y;
+        double len2 = ex * ex + ey * ey;
+        double s = len2 > 0 ? ((px - s1x) * ex + (py - s1y) * ey) / len2 : 0;
+
+        s = Math.max(0, Math.min(1, s));
+
+        double dx = s1x + ex * s - px, dy = s1y + ey * s - py;
+        double dist = Math.sqrt(dx * dx + dy * dy);
+
+        if (dist < best && dist > TOLERANCE) {
+            this.distNX = sign * dx / dist;
+            this.distNY = sign * dy / dist;
+            return dist;
+        }
+
+        return best;
+    }
+
+    private static double cross(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+
+    private static boolean segmentsCross(double p1x, double p1y, double p2x, double p2y,
+            double q1x, double q1y, double q2x, double q2y) {
+        double d1 = cross(q1x, q1y, q2x, q2y, p1x, p1y);
+        double d2 = cross(q1x, q1y, q2x, q2y, p2x, p2y);
+        double d3 = cross(p1x, p1y, p2x, p2y, q1x, q1y);
+        double d4 = cross(p1x, p1y, p2x, p2y, q2x, q2y);
+
+        return ((d1 > 0) != (d2 > 0)) && ((d3 > 0) != (d4 > 0)) && d1 != 0 && d2 != 0 && d3 != 0 && d4 != 0;
+    }
+
+    /**
+     * Teste de paridade de um ponto contra um polígono deslocado de
+     * {@code (ox, oy)}.
+     */
+    private static boolean contains(Point[] v, int n, double px, double py, double ox, double oy) {
+        boolean inside = false;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double ax = v[j].getX() + ox, ay = v[j].getY() + oy;
+            double bx = v[i].getX() + ox, by = v[i].getY() + oy;
+
+            if ((ay > py) != (by > py) && px < ax + (bx - ax) * (py - ay) / (by - ay)) {
+                inside = !inside;
+            }
+        }
+
+        return inside;
+    }
+}
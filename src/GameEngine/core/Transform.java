@@ -33,6 +33,21 @@ public class Transform implements ITransform {
     private int layer;
     private double angle, scale;
 
+    private final Point previousPosition;
+    private double previousAngle, previousScale;
+
+    // matriz 2x3 {m00, m01, m02, m10, m11, m12}; a parte linear so e
+    // recalculada quando o angulo ou a escala mudam
+    private final double[] matrix;
+    private double matrixAngle, matrixScale;
+
+    // contador de alteracoes e a posicao com que foi atualizado
+    private long version;
+    private double versionX, versionY;
+
+    // versao guardada pela ultima chamada a storePrevious()
+    private long previousVersion;
+
     /**
      * Construtor que inicializa um {@code Transform} com os parâmetros indicados.
      *
@@ -47,20 +62,48 @@ public class Transform implements ITransform {
             this.layer = layer;
         this.angle = angulo;
         this.scale = escala;
+
+        this.previousPosition = new Point(posicao.getX(), posicao.getY());
+        this.previousAngle = angulo;
+        this.previousScale = escala;
+
+        this.matrix = new double[6];
+        this.matrixAngle = Double.NaN; // obriga ao calculo no primeiro pedido
+
+        this.version = 0;
+        this.versionX = posicao.getX();
+        this.versionY = posicao.getY();
     }
 
     public void move(Point dPos, int dlayer) {
+        if (dPos.getX() == 0 && dPos.getY() == 0 && dlayer == 0) {
+            return;
+        }
+
         this.layer += dlayer;
 
         this.position.move(new Vector(dPos));
+        this.versionX = this.position.getX();
+        this.versionY = this.position.getY();
+        this.version++;
     }
 
     public void rotate(double dTheta) {
+        if (dTheta == 0) {
+            return;
+        }
+
         this.angle += dTheta;
+        this.version++;
     }
 
     public void scale(double dScale) {
+        if (dScale == 0) {
+            return;
+        }
+
         this.scale += dScale;
+        this.version++;
     }
 
     public Point getPosition() {
@@ -79,6 +122,76 @@ public class Transform implements ITransform {
         return this.scale;
     }
 
+    public void storePrevious() {
+        long current = this.version();
+
+        // parado desde a ultima chamada: o estado anterior ja e o atual
+        if (current == this.previousVersion) {
+            return;
+        }
+
+        this.previousVersion = current;
+        this.previousPosition.set(this.position.getX(), this.position.getY());
+        this.previousAngle = this.angle;
+        this.previousScale = this.scale;
+    }
+
+    public Point getPreviousPosition() {
+        return this.previousPosition;
+    }
+
+    public double previousAngle() {
+        return this.previousAngle;
+    }
+
+    public double previousScale() {
+        return this.previousScale;
+    }
+
+    public long version() {
+        if (this.position.getX() != this.versionX || this.position.getY() != this.versionY) {
+            this.versionX = this.position.getX();
+            this.versionY = this.position.getY();
+            this.version++;
+        }
+
+        return this.version;
+    }
+
+    public double[] matrix() {
+        if (this.angle != this.matrixAngle || this.scale != this.matrixScale) {
+            linear(this.matrix, this.angle, this.scale);
+
+            this.matrixAngle = this.angle;
+            this.matrixScale = this.scale;
+        }
+
+        // a posicao pode ser alterada diretamente atraves de getPosition(), e
+        // a translacao nao precisa de trigonometria
+        this.matrix[2] = this.position.getX();
+        this.matrix[5] = this.position.getY();
+
+        return this.matrix;
+    }
+
+    /**
+     * Preenche a parte linear (rotação vezes escala) de uma matriz 2x3.
+     *
+     * @param m     Matriz {@code {m00, m01, m02, m10, m11, m12}}.
+     * @param angle Ângulo, em graus.
+     * @param scale Fator de escala.
+     */
+    static void linear(double[] m, double angle, double scale) {
+        double rads = Math.toRadians(angle);
+        double cos = Math.cos(rads) * scale;
+        double sin = Math.sin(rads) * scale;
+
+        m[0] = cos;
+        m[1] = -sin;
+        m[3] = sin;
+        m[4] = cos;
+    }
+
     /**
      * Retorna uma representação textual do Transform, incluindo posição, layer,
      * ângulo e escala.
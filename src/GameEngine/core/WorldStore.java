@@ -0,0 +1,527 @@
+package GameEngine.core;
+
+import GameEngine.core.utils.Point;
+import GameEngine.core.utils.Vector;
+import GameEngine.exceptions.CollPolyException;
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.ITransform;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Armazenamento opcional, em estrutura de arrays (SoA), dos transforms e dos
+ * vértices dos polígonos.
+ *
+ * <p>
+ * Um {@code Transform} normal é um objeto próprio com um {@code Point} próprio,
+ * espalhados pela memória. Os transforms criados por
+ * {@link #newTransform(Point, int, double, double)} guardam a posição, o
+ * ângulo, a escala e a camada em arrays paralelos, um índice por objeto; o
+ * {@code ITransform} devolvido (e o seu {@code getPosition()}) é apenas uma
+ * vista sobre esse índice. Do mesmo modo, os polígonos criados por
+ * {@link #newPolygon(ITransform, Point[], int)} guardam os vértices no mundo
+ * seguidos em blocos de {@code double}. Os sistemas da engine percorrem assim
+ * memória contígua em vez de seguir referências.
+ * </p>
+ *
+ * <p>
+ * Os objetos criados aqui funcionam como quaisquer outros e podem ser
+ * misturados com transforms e colliders normais. O carregador de objetos do
+ * jogo cria os transforms e polígonos através do armazenamento da engine, e a
+ * engine copia o estado do tick anterior de todos de uma vez. Quando um objeto
+ * é destruído sem voltar ao pool de prefabs, a engine chama
+ * {@link #release(IGameObject)}, que devolve o seu espaço ao armazenamento;
+ * as vistas desse objeto deixam de poder ser usadas.
+ * </p>
+ *
+ * @see GameEngine.interfaces.IGameEngine#world()
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class WorldStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // vertices por bloco; os blocos nunca sao realocados
+    static final int VERTEX_BLOCK = 4096;
+
+    /**
+     * Vista da posição atual de um transform guardado nos arrays do
+     * armazenamento. Alterar a posição aumenta a versão do transform.
+     */
+    private static final class StoredPosition extends Point {
+        private final StoredTransform t;
+
+        private StoredPosition(StoredTransform t) {
+            this.t = t;
+        }
+
+        @Override
+        public double getX() {
+            return this.t.store.x[this.t.index];
+        }
+
+        @Override
+        public double getY() {
+            return this.t.store.y[this.t.index];
+        }
+
+        @Override
+        public void set(double x, double y) {
+            WorldStore store = this.t.store;
+            int index = this.t.index;
+
+            store.x[index] = x;
+            store.y[index] = y;
+            store.version[index]++;
+        }
+    }
+
+    /**
+     * Vista da posição do tick anterior de um transform guardado nos arrays
+     * do armazenamento.
+     */
+    private static final class StoredPreviousPosition extends Point {
+        private final StoredTransform t;
+
+        private StoredPreviousPosition(StoredTransform t) {
+            this.t = t;
+        }
+
+        @Override
+        public double getX() {
+            return this.t.store.previousX[this.t.index];
+        }
+
+        @Override
+        public double getY() {
+            return this.t.store.previousY[this.t.index];
+        }
+
+        @Override
+        public void set(double x, double y) {
+            this.t.store.previousX[this.t.index] = x;
+            this.t.store.previousY[this.t.index] = y;
+        }
+    }
+
+    /**
+     * {@code ITransform} cujo estado está nos arrays de um armazenamento.
+     * Depois de libertado, o estado passa para um armazenamento só seu, para
+     * que o transform continue a funcionar sem tocar no índice que foi
+     * reutilizado.
+     */
+    private static final class StoredTransform implements ITransform {
+        // armazenamento que criou o transform
+        private final WorldStore home;
+
+        // onde o estado esta agora: home, ou um armazenamento proprio depois
+        // de libertado
+        private WorldStore store;
+        private int index;
+
+        private final StoredPosition position;
+        private final StoredPreviousPosition previousPosition;
+
+        private final double[] matrix;
+        private double matrixAngle, matrixScale;
+
+        private StoredTransform(WorldStore home, int index) {
+            this.home = home;
+            this.store = home;
+            this.index = index;
+            this.position = new StoredPosition(this);
+            this.previousPosition = new StoredPreviousPosition(this);
+
+            this.matrix = new double[6];
+            this.matrixAngle = Double.NaN;
+        }
+
+        public void move(Point dPos, int dlayer) {
+            if (dPos.getX() == 0 && dPos.getY() == 0 && dlayer == 0) {
+                return;
+            }
+
+            // a posicao aumenta a versao
+            this.store.layer[this.index] += dlayer;
+            this.position.move(new Vector(dPos));
+        }
+
+        public void rotate(double dTheta) {
+            if (dTheta == 0) {
+                return;
+            }
+
+            this.store.angle[this.index] += dTheta;
+            this.store.version[this.index]++;
+        }
+
+        public void scale(double dScale) {
+            if (dScale == 0) {
+                return;
+            }
+
+            this.store.scale[this.index] += dScale;
+            this.store.version[this.index]++;
+        }
+
+        public Point getPosition() {
+            return this.position;
+        }
+
+        public int layer() {
+            return this.store.layer[this.index];
+        }
+
+        public double angle() {
+            return this.store.angle[this.index];
+        }
+
+        public double scale() {
+            return this.store.scale[this.index];
+        }
+
+        public void storePrevious() {
+            this.store.storePrevious(this.index);
+        }
+
+        public Point getPreviousPosition() {
+            return this.previousPosition;
+        }
+
+        public double previousAngle() {
+            return this.store.previousAngle[this.index];
+        }
+
+        public double previousScale() {
+            return this.store.previousScale[this.index];
+        }
+
+        public double[] matrix() {
+            double angle = this.angle(), scale = this.scale();
+
+            if (angle != this.matrixAngle || scale != this.matrixScale) {
+                Transform.linear(this.matrix, angle, scale);
+
+                this.matrixAngle = angle;
+                this.matrixScale = scale;
+            }
+
+            this.matrix[2] = this.store.x[this.index];
+            this.matrix[5] = this.store.y[this.index];
+
+            return this.matrix;
+        }
+
+        public long version() {
+            return this.store.version[this.index];
+        }
+
+        /**
+         * Muda o estado do transform para um índice de outro armazenamento.
+         */
+        private void moveTo(WorldStore target) {
+            int to = target.allocate();
+
+            WorldStore.copy(this.store, this.index, target, to);
+
+            this.store = target;
+            this.index = to;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %d %.2f %.2f", this.position, this.layer(), this.angle(), this.scale());
+        }
+    }
+
+    // estado atual e do tick anterior de cada transform
+    double[] x, y, angle, scale;
+    double[] previousX, previousY, previousAngle, previousScale;
+    int[] layer;
+    long[] version, previousVersion;
+    private int count;
+
+    // indices libertados, reutilizados antes de crescer
+    private int[] free;
+    private int freeCount;
+
+    // vertices dos poligonos
+    private double[][] blockX, blockY;
+    private int blockCount;
+    private int blockUsed;
+
+    // intervalos de vertices libertados, por numero de vertices: bloco << 32 | inicio
+    private final Map<Integer, ArrayDeque<Long>> freeRanges;
+
+    public WorldStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private WorldStore(int capacity) {
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.angle = new double[capacity];
+        this.scale = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.previousAngle = new double[capacity];
+        this.previousScale = new double[capacity];
+        this.layer = new int[capacity];
+        this.version = new long[capacity];
+        this.previousVersion = new long[capacity];
+        this.count = 0;
+
+        this.free = new int[capacity];
+        this.freeCount = 0;
+
+        this.blockX = new double[4][];
+        this.blockY = new double[4][];
+        this.blockCount = 0;
+        this.blockUsed = VERTEX_BLOCK;
+
+        this.freeRanges = new HashMap<>();
+    }
+
+    /**
+     * Cria um transform guardado neste armazenamento.
+     *
+     * @param position Posição inicial (é copiada).
+     * @param layer    Camada inicial.
+     * @param angle    Ângulo inicial, em graus.
+     * @param scale    Escala inicial.
+     * @return Vista sobre o novo transform.
+     */
+    public ITransform newTransform(Point position, int layer, double angle, double scale) {
+        int index = this.allocate();
+
+        this.x[index] = this.previousX[index] = position.getX();
+        this.y[index] = this.previousY[index] = position.getY();
+        this.angle[index] = this.previousAngle[index] = angle;
+        this.scale[index] = this.previousScale[index] = scale;
+        this.layer[index] = Math.max(layer, 0);
+
+        // a versao continua a crescer se o indice for reutilizado
+        this.version[index]++;
+        this.previousVersion[index] = this.version[index];
+
+        return new StoredTransform(this, index);
+    }
+
+    /**
+     * Cria um polígono cujos vértices no mundo ficam guardados nos blocos
+     * deste armazenamento, seguidos dos vértices dos polígonos criados antes.
+     *
+     * @param transform Transform do polígono.
+     * @param vertices  Vértices iniciais (são copiados).
+     * @param num       Número de vértices.
+     * @return O novo polígono.
+     * @throws CollPolyException Se o polígono for inválido.
+     */
+    public CollPoly newPolygon(ITransform transform, Point[] vertices, int num) throws CollPolyException {
+        if (num < 0 || num > VERTEX_BLOCK) {
+            throw new CollPolyException("Polygon has too many vertices for the world store");
+        }
+
+        long range = this.allocateVertices(num);
+        int block = (int) (range >>> 32);
+
+        try {
+            CollPoly polygon = new CollPoly(transform, vertices, num, this.blockX[block], this.blockY[block],
+                    (int) range);
+            polygon.store = this;
+
+            return polygon;
+        } catch (CollPolyException e) {
+            this.freeRanges.computeIfAbsent(num, n -> new ArrayDeque<>()).push(range);
+            throw e;
+        }
+    }
+
+    /**
+     * Devolve ao armazenamento o espaço do transform e do polígono de um
+     * objeto, se tiverem sido criados aqui. Chamado pela engine depois de o
+     * objeto ser destruído, se não voltar ao pool de prefabs.
+     *
+     * <p>
+     * O estado do objeto passa para arrays só seus, pelo que as vistas
+     * continuam a funcionar e não partilham nada com os objetos que venham a
+     * receber o espaço libertado. Libertar um objeto já libertado não faz
+     * nada; se o objeto voltar a entrar na engine, {@link #reattach}
+     * devolve-lhe espaço nos arrays partilhados.
+     * </p>
+     *
+     * @param go Objeto que deixou de existir.
+     */
+    public void release(IGameObject go) {
+        if (go.transform() instanceof StoredTransform t && t.store == this) {
+            int index = t.index;
+
+            t.moveTo(new WorldStore(1));
+
+            if (this.freeCount == this.free.length) {
+                this.free = Arrays.copyOf(this.free, this.freeCount * 2);
+            }
+
+            this.free[this.freeCount++] = index;
+        }
+
+        if (go.collider() instanceof CollPoly p && p.store == this) {
+            int block = this.blockOf(p.packedX());
+
+            if (block >= 0) {
+                int num = p.getNumVertices();
+
+                this.freeRanges.computeIfAbsent(num, n -> new ArrayDeque<>())
+                        .push(((long) block << 32) | p.packedBase());
+
+                p.relocate(new double[num], new double[num], 0);
+            }
+        }
+    }
+
+    /**
+     * Volta a guardar nos arrays partilhados o transform e o polígono de um
+     * objeto libertado com {@link #release(IGameObject)}. Chamado pela engine
+     * quando o objeto é adicionado ou ativado; para os restantes objetos não
+     * faz nada.
+     *
+     * @param go Objeto que entra na engine.
+     */
+    public void reattach(IGameObject go) {
+        if (go.transform() instanceof StoredTransform t && t.home == this && t.store != this) {
+            t.moveTo(this);
+        }
+
+        if (go.collider() instanceof CollPoly p && p.store == this && this.blockOf(p.packedX()) < 0) {
+            long range = this.allocateVertices(p.getNumVertices());
+            int block = (int) (range >>> 32);
+
+            p.relocate(this.blockX[block], this.blockY[block], (int) range);
+        }
+    }
+
+    /**
+     * Guarda o estado atual de todos os transforms como o estado do tick
+     * anterior, copiando os arrays de uma só vez.
+     */
+    public void storePrevious() {
+        System.arraycopy(this.x, 0, this.previousX, 0, this.count);
+        System.arraycopy(this.y, 0, this.previousY, 0, this.count);
+        System.arraycopy(this.angle, 0, this.previousAngle, 0, this.count);
+        System.arraycopy(this.scale, 0, this.previousScale, 0, this.count);
+        System.arraycopy(this.version, 0, this.previousVersion, 0, this.count);
+    }
+
+    /**
+     * Retorna o número de índices de transform em uso ou libertados.
+     *
+     * @return Número de posições ocupadas nos arrays.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    private void storePrevious(int index) {
+        if (this.version[index] == this.previousVersion[index]) {
+            return;
+        }
+
+        this.previousX[index] = this.x[index];
+        this.previousY[index] = this.y[index];
+        this.previousAngle[index] = this.angle[index];
+        this.previousScale[index] = this.scale[index];
+        this.previousVersion[index] = this.version[index];
+    }
+
+    private int blockOf(double[] xs) {
+        for (int b = 0; b < this.blockCount; b++) {
+            if (xs == this.blockX[b]) {
+                return b;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copia o estado de um transform entre índices de dois armazenamentos.
+     */
+    private static void copy(WorldStore from, int i, WorldStore to, int j) {
+        to.x[j] = from.x[i];
+        to.y[j] = from.y[i];
+        to.angle[j] = from.angle[i];
+        to.scale[j] = from.scale[i];
+        to.previousX[j] = from.previousX[i];
+        to.previousY[j] = from.previousY[i];
+        to.previousAngle[j] = from.previousAngle[i];
+        to.previousScale[j] = from.previousScale[i];
+        to.layer[j] = from.layer[i];
+
+        // a versao nunca volta atras, nem no indice reutilizado nem no
+        // transform, para que as caches por versao vejam a mudanca
+        long bump = Math.max(from.version[i], Math.max(to.version[j], to.previousVersion[j])) + 1;
+        to.previousVersion[j] = bump + (from.previousVersion[i] - from.version[i]);
+        to.version[j] = bump;
+    }
+
+    private int allocate() {
+        if (this.freeCount > 0) {
+            return this.free[--this.freeCount];
+        }
+
+        if (this.count == this.x.length) {
+            int capacity = this.count * 2;
+
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.angle = Arrays.copyOf(this.angle, capacity);
+            this.scale = Arrays.copyOf(this.scale, capacity);
+            this.previousX = Arrays.copyOf(this.previousX, capacity);
+            this.previousY = Arrays.copyOf(this.previousY, capacity);
+            this.previousAngle = Arrays.copyOf(this.previousAngle, capacity);
+            this.previousScale = Arrays.copyOf(this.previousScale, capacity);
+            this.layer = Arrays.copyOf(this.layer, capacity);
+            this.version = Arrays.copyOf(this.version, capacity);
+            this.previousVersion = Arrays.copyOf(this.previousVersion, capacity);
+        }
+
+        return this.count++;
+    }
+
+    /**
+     * Reserva {@code num} vértices seguidos e devolve {@code bloco << 32 |
+     * inicio}.
+     */
+    private long allocateVertices(int num) {
+        ArrayDeque<Long> reused = this.freeRanges.get(num);
+
+        if (reused != null && !reused.isEmpty()) {
+            return reused.pop();
+        }
+
+        if (this.blockUsed + num > VERTEX_BLOCK) {
+            if (this.blockCount == this.blockX.length) {
+                this.blockX = Arrays.copyOf(this.blockX, this.blockCount * 2);
+                this.blockY = Arrays.copyOf(this.blockY, this.blockCount * 2);
+            }
+
+            this.blockX[this.blockCount] = new double[VERTEX_BLOCK];
+            this.blockY[this.blockCount] = new double[VERTEX_BLOCK];
+            this.blockCount++;
+            this.blockUsed = 0;
+        }
+
+        long range = ((long) (this.blockCount - 1) << 32) | this.blockUsed;
+
+        this.blockUsed += num;
+
+        return range;
+    }
+}
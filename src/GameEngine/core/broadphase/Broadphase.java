@@ -0,0 +1,241 @@
+package GameEngine.core.broadphase;
+
+import GameEngine.core.LayerMatrix;
+import GameEngine.interfaces.IBroadphase;
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IRigidBody;
+import GameEngine.interfaces.ITransform;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Classe abstrata com a gestão de membros comum a todas as broadphases.
+ *
+ * <p>
+ * Guarda os objetos inseridos num array denso (com remoção em O(1) por troca
+ * com o último) e, em cada tick, copia as caixas envolventes dos colliders
+ * para arrays paralelos, que as subclasses percorrem sem seguir referências.
+ * </p>
+ *
+ * <p>
+ * Também lê a camada de cada objeto, para que as subclasses possam descartar
+ * pares de camadas que não colidem antes de qualquer outro teste.
+ * </p>
+ *
+ * <p>
+ * Os objetos estáticos ({@link IGameObject#isStatic()}) nunca formam pares
+ * entre si. Os estáticos e os corpos a dormir ({@link IRigidBody#isSleeping()})
+ * que não se moveram neste tick ficam fixos: não formam pares uns com os
+ * outros e, enquanto a versão do seu transform não mudar, a sua caixa e camada
+ * não voltam a ser lidas. Um objeto fixo que se move passa a ser tratado como
+ * dinâmico nesse tick, e um corpo que acorda deixa de ser fixo. Quando o
+ * conjunto dos fixos muda, {@link #staticDirty} avisa as subclasses que
+ * guardam estruturas só para eles.
+ * </p>
+ *
+ * @see IBroadphase
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public abstract class Broadphase implements IBroadphase {
+    static final int INITIAL_CAPACITY = 64;
+
+    IGameObject[] members;
+    int memberCount;
+    private final Map<IGameObject, Integer> memberIndex;
+
+    // caixas envolventes e camadas do tick atual
+    double[] minX, minY, maxX, maxY;
+    int[] layer;
+    boolean[] interacts;
+
+    // objetos estaticos, objetos fixos neste tick (estaticos ou a dormir, e
+    // parados) e a versao do transform lida no ultimo tick
+    boolean[] statics;
+    boolean[] fixed;
+    long[] versions;
+    boolean staticDirty;
+
+    LayerMatrix matrix;
+
+    public Broadphase() {
+        this.members = new IGameObject[INITIAL_CAPACITY];
+        this.memberCount = 0;
+        this.memberIndex = new IdentityHashMap<>();
+
+        this.minX = new double[INITIAL_CAPACITY];
+        this.minY = new double[INITIAL_CAPACITY];
+        this.maxX = new double[INITIAL_CAPACITY];
+        this.maxY = new double[INITIAL_CAPACITY];
+        this.layer = new int[INITIAL_CAPACITY];
+        this.interacts = new boolean[INITIAL_CAPACITY];
+        this.statics = new boolean[INITIAL_CAPACITY];
+        this.fixed = new boolean[INITIAL_CAPACITY];
+        this.versions = new long[INITIAL_CAPACITY];
+        this.staticDirty = true;
+
+        this.matrix = new LayerMatrix();
+    }
+
+    @Override
+    public void setLayerMatrix(LayerMatrix matrix) {
+        this.matrix = matrix;
+        this.staticDirty = true;
+    }
+
+    @Override
+    public void add(IGameObject go) {
+        if (go.collider() == null || this.memberIndex.containsKey(go)) {
+            return;
+        }
+
+        if (this.memberCount == this.members.length) {
+            int capacity = this.memberCount * 2;
+
+            this.members = Arrays.copyOf(this.members, capacity);
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            this.layer = Arrays.copyOf(this.layer, capacity);
+            this.interacts = Arrays.copyOf(this.interacts, capacity);
+            this.statics = Arrays.copyOf(this.statics, capacity);
+            this.fixed = Arrays.copyOf(this.fixed, capacity);
+            this.versions = Arrays.copyOf(this.versions, capacity);
+        }
+
+        int index = this.memberCount++;
+
+        this.memberIndex.put(go, index);
+        this.members[index] = go;
+        // um membro novo ainda nao e fixo e fica no fim, pelo que os indices
+        // dos fixos nao mudam; readBounds marca a mudanca se passar a ser fixo
+        this.statics[index] = false;
+        this.fixed[index] = false;
+
+        this.added(index);
+    }
+
+    @Override
+    public void remove(IGameObject go) {
+        Integer index = this.memberIndex.remove(go);
+
+        if (index == null) {
+            return;
+        }
+
+        int last = --this.memberCount;
+
+        // so as estruturas dos fixos tem de ser refeitas se sair um fixo ou
+        // se um fixo mudar de indice
+        if (this.fixed[index] || (index != last && this.fixed[last])) {
+            this.staticDirty = true;
+        }
+
+        this.removed(index, last);
+
+        if (index != last) {
+            this.members[index] = this.members[last];
+            this.minX[index] = this.minX[last];
+            this.minY[index] = this.minY[last];
+            this.maxX[index] = this.maxX[last];
+            this.maxY[index] = this.maxY[last];
+            this.layer[index] = this.layer[last];
+            this.interacts[index] = this.interacts[last];
+            this.statics[index] = this.statics[last];
+            this.fixed[index] = this.fixed[last];
+            this.versions[index] = this.versions[last];
+            this.memberIndex.put(this.members[index], index);
+        }
+
+        this.members[last] = null;
+    }
+
+    /**
+     * Chamado depois de um objeto ser inserido no índice indicado.
+     *
+     * @param index Índice do novo membro.
+     */
+    void added(int index) {
+    }
+
+    /**
+     * Chamado antes de o membro {@code index} ser removido; o membro
+     * {@code last} vai passar a ocupar o índice {@code index}.
+     *
+     * @param index Índice do membro removido.
+     * @param last  Índice do último membro, que vai ser movido.
+     */
+    void removed(int index, int last) {
+    }
+
+    /**
+     * Copia as caixas envolventes dos colliders e as camadas de todos os
+     * membros, exceto dos que continuam fixos e cujo transform não mudou.
+     */
+    void readBounds() {
+        for (int i = 0; i < this.memberCount; i++) {
+            IGameObject go = this.members[i];
+            ITransform transform = go.transform();
+            boolean isStatic = go.isStatic();
+            boolean parked = isStatic || sleeping(go);
+            long version = transform.version();
+
+            this.statics[i] = isStatic;
+
+            if (parked && this.fixed[i] && version == this.versions[i]) {
+                // a matriz de camadas pode ter mudado
+                boolean interacts = this.matrix.collidesWithAny(this.layer[i]);
+
+                this.staticDirty |= interacts != this.interacts[i];
+                this.interacts[i] = interacts;
+                continue;
+            }
+
+            boolean fixed = parked && !moved(transform);
+
+            this.staticDirty |= fixed || this.fixed[i];
+            this.fixed[i] = fixed;
+            this.versions[i] = version;
+
+            ICollider c = go.collider();
+
+            this.layer[i] = transform.layer();
+            this.interacts[i] = this.matrix.collidesWithAny(this.layer[i]);
+
+            this.minX[i] = c.minX();
+            this.minY[i] = c.minY();
+            this.maxX[i] = c.maxX();
+            this.maxY[i] = c.maxY();
+        }
+    }
+
+    boolean canPair(int i, int j) {
+        return !(this.fixed[i] && this.fixed[j]) && !(this.statics[i] && this.statics[j])
+                && this.matrix.canCollide(this.layer[i], this.layer[j]);
+    }
+
+    private static boolean sleeping(IGameObject go) {
+        IRigidBody body = go.rigidBody();
+
+        return body != null && body.isSleeping();
+    }
+
+    private static boolean moved(ITransform t) {
+        return t.getPosition().getX() != t.getPreviousPosition().getX()
+                || t.getPosition().getY() != t.getPreviousPosition().getY()
+                || t.angle() != t.previousAngle()
+                || t.scale() != t.previousScale();
+    }
+
+    boolean overlaps(int i, int j) {
+        return this.minX[i] <= this.maxX[j] && this.minX[j] <= this.maxX[i]
+                && this.minY[i] <= this.maxY[j] && this.minY[j] <= this.maxY[i];
+    }
+}
@@ -0,0 +1,100 @@
+package GameEngine.core.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * Broadphase de referência que devolve todos os pares de objetos, tal como a
+ * engine fazia originalmente.
+ *
+ * <p>
+ * Os objetos são primeiro agrupados por camada, e só os grupos de camadas que
+ * colidem entre si são emparelhados. Dentro desses grupos o custo continua a
+ * ser O(n²), pelo que só é útil com poucos objetos ou para comparar resultados
+ * e tempos com as outras estratégias. Tal como nas outras estratégias, pares
+ * entre dois objetos estáticos não são devolvidos.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class BruteForceBroadphase extends Broadphase {
+    // (camada << 32 | indice) dos membros, ordenado por camada
+    private long[] order;
+
+    // inicio de cada grupo de camada em order (o ultimo e o fim)
+    private int[] groupStart;
+
+    public BruteForceBroadphase() {
+        this.order = new long[INITIAL_CAPACITY];
+        this.groupStart = new int[INITIAL_CAPACITY + 1];
+    }
+
+    @Override
+    public void findPairs(PairList pairs) {
+        pairs.clear();
+
+        this.readBounds();
+
+        int groups = this.groupByLayer();
+
+        for (int ga = 0; ga < groups; ga++) {
+            for (int gb = ga; gb < groups; gb++) {
+                int layerA = (int) (this.order[this.groupStart[ga]] >> 32);
+                int layerB = (int) (this.order[this.groupStart[gb]] >> 32);
+
+                if (!this.matrix.canCollide(layerA, layerB)) {
+                    continue;
+                }
+
+                for (int a = this.groupStart[ga]; a < this.groupStart[ga + 1]; a++) {
+                    int i = (int) this.order[a];
+
+                    for (int b = (ga == gb) ? a + 1 : this.groupStart[gb]; b < this.groupStart[gb + 1]; b++) {
+                        int j = (int) this.order[b];
+
+                        // dois objetos estaticos, ou dois fixos, nunca formam um par
+                        if (!(this.fixed[i] && this.fixed[j]) && !(this.statics[i] && this.statics[j])) {
+                            pairs.add(this.members[i], this.members[j]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Ordena os membros que colidem com alguma camada pela sua camada e devolve
+     * o número de grupos.
+     */
+    private int groupByLayer() {
+        if (this.order.length < this.memberCount) {
+            this.order = new long[this.members.length];
+            this.groupStart = new int[this.members.length + 1];
+        }
+
+        int n = 0;
+
+        for (int i = 0; i < this.memberCount; i++) {
+            if (this.interacts[i]) {
+                this.order[n++] = ((long) this.layer[i] << 32) | i;
+            }
+        }
+
+        Arrays.sort(this.order, 0, n);
+
+        int groups = 0;
+
+        for (int a = 0; a < n; a++) {
+            if (a == 0 || (this.order[a] >> 32) != (this.order[a - 1] >> 32)) {
+                this.groupStart[groups++] = a;
+            }
+        }
+
+        this.groupStart[groups] = n;
+
+        return groups;
+    }
+}
@@ -0,0 +1,312 @@
+package GameEngine.core.broadphase;
+
+import GameEngine.core.CollCircle;
+import GameEngine.core.CollPoly;
+import GameEngine.interfaces.ICollider;
+
+/**
+ * Testes exatos entre um collider e as formas das consultas espaciais (caixa,
+ * círculo, raio e ponto), usados nas folhas da {@link DynamicAabbTree}.
+ *
+ * <p>
+ * Os polígonos são tratados pelas suas arestas e por um teste de ponto
+ * interior, o que serve tanto para polígonos convexos como côncavos. Colliders
+ * de outros tipos são aproximados pela sua caixa envolvente.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+final class ColliderTests {
+    private static final double EPSILON = 1e-12;
+
+    // normal do ultimo raio que acertou
+    private double normalX, normalY;
+
+    double normalX() {
+        return this.normalX;
+    }
+
+    double normalY() {
+        return this.normalY;
+    }
+
+    /**
+     * Verifica se o collider toca na caixa {@code [minX, maxX] x [minY, maxY]}.
+     */
+    boolean overlapsBox(ICollider c, double minX, double minY, double maxX, double maxY) {
+        if (c.minX() > maxX || c.maxX() < minX || c.minY() > maxY || c.maxY() < minY) {
+            return false;
+        }
+
+        if (c instanceof CollCircle circle) {
+            double x = circle.getCenter().getX(), y = circle.getCenter().getY();
+            double dx = x - Math.max(minX, Math.min(x, maxX));
+            double dy = y - Math.max(minY, Math.min(y, maxY));
+            double r = circle.getRadius();
+
+            return dx * dx + dy * dy < r * r;
+        }
+
+        if (c instanceof CollPoly poly) {
+            int n = poly.getNumVertices();
+
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                if (segmentHitsBox(poly.vertexX(j), poly.vertexY(j), poly.vertexX(i), poly.vertexY(i),
+                        minX, minY, maxX, maxY)) {
+                    return true;
+                }
+            }
+
+            // nenhuma aresta toca na caixa: ou a caixa esta toda dentro do
+            // poligono ou estao separados
+            return contains(poly, (minX + maxX) / 2, (minY + maxY) / 2);
+        }
+
+        return true;
+    }
+
+    /**
+     * Verifica se o collider toca no círculo de centro {@code (x, y)}.
+     */
+    boolean overlapsCircle(ICollider c, double x, double y, double radius) {
+        if (c instanceof CollCircle circle) {
+            double dx = circle.getCenter().getX() - x;
+            double dy = circle.getCenter().getY() - y;
+            double r = circle.getRadius() + radius;
+
+            return dx * dx + dy * dy < r * r;
+        }
+
+        if (c instanceof CollPoly poly) {
+            return contains(poly, x, y) || edgeDistanceSquared(poly, x, y) < radius * radius;
+        }
+
+        double dx = x - Math.max(c.minX(), Math.min(x, c.maxX()));
+        double dy = y - Math.max(c.minY(), Math.min(y, c.maxY()));
+
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    /**
+     * Distância do ponto {@code (x, y)} ao collider, {@code 0} se estiver
+     * dentro dele.
+     */
+    double distance(ICollider c, double x, double y) {
+        if (c instanceof CollCircle circle) {
+            double dx = circle.getCenter().getX() - x;
+            double dy = circle.getCenter().getY() - y;
+
+            return Math.max(0, Math.sqrt(dx * dx + dy * dy) - circle.getRadius());
+        }
+
+        if (c instanceof CollPoly poly) {
+            return contains(poly, x, y) ? 0 : Math.sqrt(edgeDistanceSquared(poly, x, y));
+        }
+
+        double dx = x - Math.max(c.minX(), Math.min(x, c.maxX()));
+        double dy = y - Math.max(c.minY(), Math.min(y, c.maxY()));
+
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Lança o raio {@code (ox, oy) + t (ux, uy)}, com {@code (ux, uy)} unitário,
+     * contra o collider.
+     *
+     * @return O primeiro {@code t} em {@code [0, maxT)} em que o raio toca no
+     *         collider, ou {@link Double#POSITIVE_INFINITY}. Quando acerta, a
+     *         normal fica em {@link #normalX()} e {@link #normalY()}.
+     */
+    double raycast(ICollider c, double ox, double oy, double ux, double uy, double maxT) {
+        if (c instanceof CollCircle circle) {
+            double mx = ox - circle.getCenter().getX();
+            double my = oy - circle.getCenter().getY();
+            double r = circle.getRadius();
+            double b = mx * ux + my * uy;
+            double cc = mx * mx + my * my - r * r;
+
+            // a origem esta dentro do circulo
+            if (cc <= 0) {
+                return this.inside(ux, uy);
+            }
+
+            double disc = b * b - cc;
+
+            if (b > 0 || disc < 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            double t = -b - Math.sqrt(disc);
+
+            if (t >= maxT) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            this.normalX = (mx + t * ux) / r;
+            this.normalY = (my + t * uy) / r;
+
+            return t;
+        }
+
+        if (c instanceof CollPoly poly) {
+            if (contains(poly, ox, oy)) {
+                return this.inside(ux, uy);
+            }
+
+            int n = poly.getNumVertices();
+            double best = maxT;
+            double ex = 0, ey = 0;
+
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double px = poly.vertexX(j), py = poly.vertexY(j);
+                double sx = poly.vertexX(i) - px, sy = poly.vertexY(i) - py;
+                double denom = ux * sy - uy * sx;
+
+                if (Math.abs(denom) < EPSILON) {
+                    continue;
+                }
+
+                double wx = px - ox, wy = py - oy;
+                double t = (wx * sy - wy * sx) / denom;
+                double s = (wx * uy - wy * ux) / denom;
+
+                if (t >= 0 && t < best && s >= 0 && s <= 1) {
+                    best = t;
+                    ex = sx;
+                    ey = sy;
+                }
+            }
+
+            if (best >= maxT) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            // normal da aresta atingida, virada contra o raio
+            double length = Math.sqrt(ex * ex + ey * ey);
+            double nx = ey / length, ny = -ex / length;
+
+            if (nx * ux + ny * uy > 0) {
+                nx = -nx;
+                ny = -ny;
+            }
+
+            this.normalX = nx;
+            this.normalY = ny;
+
+            return best;
+        }
+
+        return this.raycastBox(c.minX(), c.minY(), c.maxX(), c.maxY(), ox, oy, ux, uy, maxT);
+    }
+
+    private double inside(double ux, double uy) {
+        this.normalX = -ux;
+        this.normalY = -uy;
+
+        return 0;
+    }
+
+    private double raycastBox(double minX, double minY, double maxX, double maxY, double ox, double oy, double ux,
+            double uy, double maxT) {
+        if (ox >= minX && ox <= maxX && oy >= minY && oy <= maxY) {
+            return this.inside(ux, uy);
+        }
+
+        double tx = ux > 0 ? (minX - ox) / ux : ux < 0 ? (maxX - ox) / ux : Double.NEGATIVE_INFINITY;
+        double ty = uy > 0 ? (minY - oy) / uy : uy < 0 ? (maxY - oy) / uy : Double.NEGATIVE_INFINITY;
+        double t = Math.max(tx, ty);
+
+        if (t < 0 || t >= maxT) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double x = ox + t * ux, y = oy + t * uy;
+
+        if (x < minX - EPSILON || x > maxX + EPSILON || y < minY - EPSILON || y > maxY + EPSILON) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        this.normalX = tx >= ty ? -Math.signum(ux) : 0;
+        this.normalY = tx >= ty ? 0 : -Math.signum(uy);
+
+        return t;
+    }
+
+    /**
+     * Teste do ponto interior pela regra par-ímpar, válido para qualquer
+     * polígono simples.
+     */
+    private static boolean contains(CollPoly poly, double x, double y) {
+        int n = poly.getNumVertices();
+        boolean inside = false;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double xi = poly.vertexX(i), yi = poly.vertexY(i);
+            double xj = poly.vertexX(j), yj = poly.vertexY(j);
+
+            if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                inside = !inside;
+            }
+        }
+
+        return inside;
+    }
+
+    private static double edgeDistanceSquared(CollPoly poly, double x, double y) {
+        int n = poly.getNumVertices();
+        double best = Double.POSITIVE_INFINITY;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double px = poly.vertexX(j), py = poly.vertexY(j);
+            double sx = poly.vertexX(i) - px, sy = poly.vertexY(i) - py;
+            double lengthSquared = sx * sx + sy * sy;
+            double t = lengthSquared > 0 ? ((x - px) * sx + (y - py) * sy) / lengthSquared : 0;
+
+            t = Math.max(0, Math.min(1, t));
+
+            double dx = px + t * sx - x, dy = py + t * sy - y;
+
+            best = Math.min(best, dx * dx + dy * dy);
+        }
+
+        return best;
+    }
+
+    /**
+     * Recorte de Liang-Barsky: verifica se o segmento {@code p -> q} tem algum
+     * ponto dentro da caixa.
+     */
+    private static boolean segmentHitsBox(double px, double py, double qx, double qy, double minX, double minY,
+            double maxX, double maxY) {
+        double dx = qx - px, dy = qy - py;
+        double t0 = 0, t1 = 1;
+
+        // lado esquerdo e direito
+        if (dx == 0) {
+            if (px < minX || px > maxX) {
+                return false;
+            }
+        } else {
+            double a = (minX - px) / dx, b = (maxX - px) / dx;
+            t0 = Math.max(t0, Math.min(a, b));
+            t1 = Math.min(t1, Math.max(a, b));
+        }
+
+        // lado de baixo e de cima
+        if (dy == 0) {
+            if (py < minY || py > maxY) {
+                return false;
+            }
+        } else {
+            double a = (minY - py) / dy, b = (maxY - py) / dy;
+            t0 = Math.max(t0, Math.min(a, b));
+            t1 = Math.min(t1, Math.max(a, b));
+        }
+
+        return t0 <= t1;
+    }
+}
@@ -0,0 +1,676 @@
+package GameEngine.core.broadphase;
+
+import GameEngine.core.LayerMatrix;
+import GameEngine.core.RaycastHit;
+import GameEngine.interfaces.ICollider;
+import GameEngine.interfaces.IGameObject;
+import java.util.Arrays;
+
+/**
+ * Árvore dinâmica de caixas envolventes (AABB), usada pelas consultas
+ * espaciais da engine: raios, sobreposição com caixas e círculos e objeto mais
+ * próximo.
+ *
+ * <p>
+ * Cada folha guarda um objeto com a caixa do seu collider alargada por uma
+ * margem. Enquanto o collider se mantiver dentro da caixa alargada,
+ * {@link #update(int)} não altera a árvore; só quando sai dela é que a folha
+ * é removida e reinserida. Cada nó interno guarda a união das caixas e das
+ * camadas dos filhos, pelo que uma consulta só desce pelos ramos que tocam na
+ * forma pedida e que têm alguma camada aceite pela máscara, em
+ * O(log n + k) em vez de percorrer todos os objetos.
+ * </p>
+ *
+ * <p>
+ * A inserção escolhe o irmão que menos aumenta o perímetro das caixas, e a
+ * árvore é equilibrada com rotações enquanto sobe, como na árvore dinâmica do
+ * Box2D. Os nós vivem em arrays paralelos, com os nós libertados reutilizados
+ * através de uma lista livre; o identificador de cada folha (proxy) mantém-se
+ * até ela ser removida. As consultas escrevem em buffers fornecidos por quem
+ * pergunta e reutilizam uma pilha e um estado de testes por thread, pelo que
+ * não criam objetos e podem ser feitas de várias threads ao mesmo tempo, desde
+ * que nenhuma altere a árvore enquanto isso.
+ * </p>
+ *
+ * @see GameEngine.interfaces.IGameEngine#raycast(double, double, double, double, double, long, RaycastHit)
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class DynamicAabbTree {
+    public static final double DEFAULT_MARGIN = 8;
+
+    private static final int NULL = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double margin;
+
+    // caixas alargadas (folhas) ou unioes dos filhos (nos internos)
+    private double[] minX, minY, maxX, maxY;
+    private int[] parent, left, right;
+    // altura do no; -1 nos nos livres
+    private int[] height;
+    // bits das camadas do objeto (folhas) ou uniao dos filhos
+    private long[] layers;
+    private IGameObject[] objects;
+
+    private int root;
+    // nos livres encadeados por left[]
+    private int freeList;
+    private int leafCount;
+
+    /**
+     * Estado temporário de uma consulta: a pilha de nós por visitar e os
+     * testes exatos, que guardam a normal do último raio.
+     */
+    private static final class Scratch {
+        private int[] stack = new int[64];
+        private final ColliderTests tests = new ColliderTests();
+    }
+
+    // um por thread, para que as consultas possam correr em paralelo
+    private final ThreadLocal<Scratch> scratch;
+
+    public DynamicAabbTree() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Cria uma árvore vazia.
+     *
+     * @param margin Quanto cada caixa é alargada para cada lado. Margens
+     *               maiores fazem com que os objetos sejam reinseridos menos
+     *               vezes, mas tornam as caixas menos justas.
+     */
+    public DynamicAabbTree(double margin) {
+        this.margin = margin;
+
+        this.minX = new double[0];
+        this.minY = new double[0];
+        this.maxX = new double[0];
+        this.maxY = new double[0];
+        this.parent = new int[0];
+        this.left = new int[0];
+        this.right = new int[0];
+        this.height = new int[0];
+        this.layers = new long[0];
+        this.objects = new IGameObject[0];
+
+        this.root = NULL;
+        this.freeList = NULL;
+        this.leafCount = 0;
+        this.grow(INITIAL_CAPACITY);
+
+        this.scratch = ThreadLocal.withInitial(Scratch::new);
+    }
+
+    /**
+     * Insere um objeto, com a caixa atual do seu collider.
+     *
+     * @param go Objeto a inserir; tem de ter collider.
+     * @return Identificador da folha, a usar em {@link #update(int)} e
+     *         {@link #remove(int)}.
+     */
+    public int insert(IGameObject go) {
+        int leaf = this.allocate();
+
+        this.objects[leaf] = go;
+        this.height[leaf] = 0;
+        this.fatten(leaf, go.collider());
+        this.layers[leaf] = LayerMatrix.bit(go.transform().layer());
+
+        this.insertLeaf(leaf);
+        this.leafCount++;
+
+        return leaf;
+    }
+
+    /**
+     * Remove uma folha da árvore.
+     *
+     * @param proxy Identificador devolvido por {@link #insert(IGameObject)}.
+     */
+    public void remove(int proxy) {
+        this.removeLeaf(proxy);
+        this.objects[proxy] = null;
+        this.release(proxy);
+        this.leafCount--;
+    }
+
+    /**
+     * Acompanha o collider e a camada do objeto de uma folha.
+     *
+     * @param proxy Identificador da folha.
+     * @return {@code true} se a folha teve de ser reinserida.
+     */
+    public boolean update(int proxy) {
+        IGameObject go = this.objects[proxy];
+        ICollider c = go.collider();
+        long bits = LayerMatrix.bit(go.transform().layer());
+
+        if (c.minX() >= this.minX[proxy] && c.maxX() <= this.maxX[proxy]
+                && c.minY() >= this.minY[proxy] && c.maxY() <= this.maxY[proxy]) {
+            if (bits != this.layers[proxy]) {
+                this.layers[proxy] = bits;
+
+                for (int i = this.parent[proxy]; i != NULL; i = this.parent[i]) {
+                    this.layers[i] = this.layers[this.left[i]] | this.layers[this.right[i]];
+                }
+            }
+
+            return false;
+        }
+
+        this.removeLeaf(proxy);
+        this.fatten(proxy, c);
+        this.layers[proxy] = bits;
+        this.insertLeaf(proxy);
+
+        return true;
+    }
+
+    public int size() {
+        return this.leafCount;
+    }
+
+    /**
+     * Retorna a altura da árvore; com a árvore equilibrada é da ordem de
+     * {@code log2(size())}.
+     *
+     * @return Altura da raiz, ou {@code 0} se a árvore estiver vazia.
+     */
+    public int height() {
+        return this.root == NULL ? 0 : this.height[this.root];
+    }
+
+    /**
+     * Encontra os objetos cujo collider toca na caixa indicada.
+     *
+     * @param minX      Menor abcissa da caixa.
+     * @param minY      Menor ordenada da caixa.
+     * @param maxX      Maior abcissa da caixa.
+     * @param maxY      Maior ordenada da caixa.
+     * @param layerMask Camadas aceites (ver {@link LayerMatrix#bit(int)}).
+     * @param results   Buffer onde são escritos os objetos encontrados.
+     * @return Número de objetos escritos; a procura pára quando o buffer
+     *         enche.
+     */
+    public int overlapBox(double minX, double minY, double maxX, double maxY, long layerMask,
+            IGameObject[] results) {
+        Scratch scratch = this.scratch.get();
+        int found = 0;
+        int top = push(scratch, 0, this.root);
+
+        while (top > 0 && found < results.length) {
+            int node = scratch.stack[--top];
+
+            if (!this.accepts(node, layerMask) || this.minX[node] > maxX || this.maxX[node] < minX
+                    || this.minY[node] > maxY || this.maxY[node] < minY) {
+                continue;
+            }
+
+            if (this.isLeaf(node)) {
+                if (scratch.tests.overlapsBox(this.objects[node].collider(), minX, minY, maxX, maxY)) {
+                    results[found++] = this.objects[node];
+                }
+            } else {
+                top = push(scratch, top, this.left[node]);
+                top = push(scratch, top, this.right[node]);
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Encontra os objetos cujo collider toca no círculo indicado.
+     *
+     * @param x         Abcissa do centro.
+     * @param y         Ordenada do centro.
+     * @param radius    Raio do círculo.
+     * @param layerMask Camadas aceites.
+     * @param results   Buffer onde são escritos os objetos encontrados.
+     * @return Número de objetos escritos; a procura pára quando o buffer
+     *         enche.
+     */
+    public int overlapCircle(double x, double y, double radius, long layerMask, IGameObject[] results) {
+        Scratch scratch = this.scratch.get();
+        int found = 0;
+        int top = push(scratch, 0, this.root);
+
+        while (top > 0 && found < results.length) {
+            int node = scratch.stack[--top];
+
+            if (!this.accepts(node, layerMask) || this.boxDistanceSquared(node, x, y) > radius * radius) {
+                continue;
+            }
+
+            if (this.isLeaf(node)) {
+                if (scratch.tests.overlapsCircle(this.objects[node].collider(), x, y, radius)) {
+                    results[found++] = this.objects[node];
+                }
+            } else {
+                top = push(scratch, top, this.left[node]);
+                top = push(scratch, top, this.right[node]);
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Lança um raio e encontra o primeiro collider atingido.
+     *
+     * @param ox          Abcissa da origem.
+     * @param oy          Ordenada da origem.
+     * @param dx          Abcissa da direção (não precisa de ser unitária).
+     * @param dy          Ordenada da direção.
+     * @param maxDistance Alcance do raio.
+     * @param layerMask   Camadas aceites.
+     * @param hit         Resultado, preenchido se o raio acertar.
+     * @return {@code true} se o raio atingiu algum collider.
+     */
+    public boolean raycast(double ox, double oy, double dx, double dy, double maxDistance, long layerMask,
+            RaycastHit hit) {
+        double length = Math.sqrt(dx * dx + dy * dy);
+
+        if (length == 0 || !(maxDistance > 0)) {
+            return false;
+        }
+
+        double ux = dx / length, uy = dy / length;
+        double invX = 1 / ux, invY = 1 / uy;
+
+        double best = maxDistance;
+        int bestNode = NULL;
+        double normalX = 0, normalY = 0;
+
+        Scratch scratch = this.scratch.get();
+        int top = push(scratch, 0, this.root);
+
+        while (top > 0) {
+            int node = scratch.stack[--top];
+
+            if (!this.accepts(node, layerMask) || this.slab(node, ox, oy, invX, invY) >= best) {
+                continue;
+            }
+
+            if (this.isLeaf(node)) {
+                double t = scratch.tests.raycast(this.objects[node].collider(), ox, oy, ux, uy, best);
+
+                if (t < best) {
+                    best = t;
+                    bestNode = node;
+                    normalX = scratch.tests.normalX();
+                    normalY = scratch.tests.normalY();
+                }
+            } else {
+                top = push(scratch, top, this.left[node]);
+                top = push(scratch, top, this.right[node]);
+            }
+        }
+
+        if (bestNode == NULL) {
+            return false;
+        }
+
+        hit.set(this.objects[bestNode], best, ox + best * ux, oy + best * uy, normalX, normalY);
+
+        return true;
+    }
+
+    /**
+     * Encontra o objeto cujo collider está mais perto de um ponto.
+     *
+     * @param x           Abcissa do ponto.
+     * @param y           Ordenada do ponto.
+     * @param maxDistance Distância máxima a procurar.
+     * @param layerMask   Camadas aceites.
+     * @param exclude     Objeto a ignorar (por exemplo, quem pergunta), ou
+     *                    {@code null}.
+     * @return O objeto mais próximo, ou {@code null} se nenhum estiver a menos
+     *         de {@code maxDistance}.
+     */
+    public IGameObject nearest(double x, double y, double maxDistance, long layerMask, IGameObject exclude) {
+        double best = maxDistance;
+        int bestNode = NULL;
+
+        Scratch scratch = this.scratch.get();
+        int top = push(scratch, 0, this.root);
+
+        while (top > 0) {
+            int node = scratch.stack[--top];
+
+            if (!this.accepts(node, layerMask) || this.boxDistanceSquared(node, x, y) >= best * best) {
+                continue;
+            }
+
+            if (this.isLeaf(node)) {
+                if (this.objects[node] == exclude) {
+                    continue;
+                }
+
+                double d = scratch.tests.distance(this.objects[node].collider(), x, y);
+
+                if (d < best) {
+                    best = d;
+                    bestNode = node;
+                }
+            } else {
+                int near = this.left[node], far = this.right[node];
+
+                if (this.boxDistanceSquared(near, x, y) > this.boxDistanceSquared(far, x, y)) {
+                    near = this.right[node];
+                    far = this.left[node];
+                }
+
+                // o mais proximo fica no topo da pilha e e visitado primeiro,
+                // o que encolhe depressa a distancia a bater
+                top = push(scratch, top, far);
+                top = push(scratch, top, near);
+            }
+        }
+
+        return bestNode == NULL ? null : this.objects[bestNode];
+    }
+
+    private boolean isLeaf(int node) {
+        return this.left[node] == NULL;
+    }
+
+    private boolean accepts(int node, long layerMask) {
+        return layerMask == LayerMatrix.ALL_LAYERS || (this.layers[node] & layerMask) != 0;
+    }
+
+    private static int push(Scratch scratch, int top, int node) {
+        if (node == NULL) {
+            return top;
+        }
+
+        if (top == scratch.stack.length) {
+            scratch.stack = Arrays.copyOf(scratch.stack, top * 2);
+        }
+
+        scratch.stack[top] = node;
+
+        return top + 1;
+    }
+
+    private double boxDistanceSquared(int node, double x, double y) {
+        double dx = Math.max(0, Math.max(this.minX[node] - x, x - this.maxX[node]));
+        double dy = Math.max(0, Math.max(this.minY[node] - y, y - this.maxY[node]));
+
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Teste dos planos (slabs): distância ao longo do raio até entrar na caixa
+     * do nó, {@code 0} se a origem estiver dentro, ou infinito se o raio não a
+     * atravessar.
+     */
+    private double slab(int node, double ox, double oy, double invX, double invY) {
+        double enter = 0, exit = Double.POSITIVE_INFINITY;
+
+        // raio paralelo a um eixo: so passa se a origem estiver entre os planos
+        if (Double.isInfinite(invX)) {
+            if (ox < this.minX[node] || ox > this.maxX[node]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double t1 = (this.minX[node] - ox) * invX, t2 = (this.maxX[node] - ox) * invX;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        if (Double.isInfinite(invY)) {
+            if (oy < this.minY[node] || oy > this.maxY[node]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double t1 = (this.minY[node] - oy) * invY, t2 = (this.maxY[node] - oy) * invY;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        return enter <= exit ? enter : Double.POSITIVE_INFINITY;
+    }
+
+    private void fatten(int leaf, ICollider c) {
+        this.minX[leaf] = c.minX() - this.margin;
+        this.minY[leaf] = c.minY() - this.margin;
+        this.maxX[leaf] = c.maxX() + this.margin;
+        this.maxY[leaf] = c.maxY() + this.margin;
+    }
+
+    private double unionPerimeter(int a, int b) {
+        double w = Math.max(this.maxX[a], this.maxX[b]) - Math.min(this.minX[a], this.minX[b]);
+        double h = Math.max(this.maxY[a], this.maxY[b]) - Math.min(this.minY[a], this.minY[b]);
+
+        return 2 * (w + h);
+    }
+
+    private double perimeter(int node) {
+        return 2 * (this.maxX[node] - this.minX[node] + this.maxY[node] - this.minY[node]);
+    }
+
+    /**
+     * Recalcula a caixa, a altura e as camadas de um nó interno a partir dos
+     * filhos.
+     */
+    private void refit(int node) {
+        int a = this.left[node], b = this.right[node];
+
+        this.minX[node] = Math.min(this.minX[a], this.minX[b]);
+        this.minY[node] = Math.min(this.minY[a], this.minY[b]);
+        this.maxX[node] = Math.max(this.maxX[a], this.maxX[b]);
+        this.maxY[node] = Math.max(this.maxY[a], this.maxY[b]);
+        this.height[node] = 1 + Math.max(this.height[a], this.height[b]);
+        this.layers[node] = this.layers[a] | this.layers[b];
+    }
+
+    private void insertLeaf(int leaf) {
+        if (this.root == NULL) {
+            this.root = leaf;
+            this.parent[leaf] = NULL;
+            return;
+        }
+
+        // desce pelo filho cuja caixa menos cresce com a nova folha
+        int index = this.root;
+
+        while (!this.isLeaf(index)) {
+            int a = this.left[index], b = this.right[index];
+
+            double combined = this.unionPerimeter(index, leaf);
+            double cost = 2 * combined;
+            double inheritance = 2 * (combined - this.perimeter(index));
+
+            double costA = this.unionPerimeter(a, leaf) + inheritance;
+            if (!this.isLeaf(a)) {
+                costA -= this.perimeter(a);
+            }
+
+            double costB = this.unionPerimeter(b, leaf) + inheritance;
+            if (!this.isLeaf(b)) {
+                costB -= this.perimeter(b);
+            }
+
+            if (cost < costA && cost < costB) {
+                break;
+            }
+
+            index = costA < costB ? a : b;
+        }
+
+        int sibling = index;
+        int oldParent = this.parent[sibling];
+        int newParent = this.allocate();
+
+        this.parent[newParent] = oldParent;
+        this.left[newParent] = sibling;
+        this.right[newParent] = leaf;
+        this.parent[sibling] = newParent;
+        this.parent[leaf] = newParent;
+        this.refit(newParent);
+
+        if (oldParent == NULL) {
+            this.root = newParent;
+        } else if (this.left[oldParent] == sibling) {
+            this.left[oldParent] = newParent;
+        } else {
+            this.right[oldParent] = newParent;
+        }
+
+        this.repair(oldParent);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == this.root) {
+            this.root = NULL;
+            return;
+        }
+
+        int p = this.parent[leaf];
+        int grandParent = this.parent[p];
+        int sibling = this.left[p] == leaf ? this.right[p] : this.left[p];
+
+        if (grandParent == NULL) {
+            this.root = sibling;
+            this.parent[sibling] = NULL;
+        } else {
+            if (this.left[grandParent] == p) {
+                this.left[grandParent] = sibling;
+            } else {
+                this.right[grandParent] = sibling;
+            }
+            this.parent[sibling] = grandParent;
+        }
+
+        this.release(p);
+        this.repair(grandParent);
+    }
+
+    /**
+     * Sobe desde {@code index} até à raiz, equilibrando e recalculando cada
+     * nó.
+     */
+    private void repair(int index) {
+        while (index != NULL) {
+            index = this.balance(index);
+            this.refit(index);
+            index = this.parent[index];
+        }
+    }
+
+    /**
+     * Roda o nó {@code a} se um dos filhos for mais de um nível mais alto do
+     * que o outro.
+     *
+     * @return O nó que ficou no lugar de {@code a}.
+     */
+    private int balance(int a) {
+        if (this.isLeaf(a) || this.height[a] < 2) {
+            return a;
+        }
+
+        int b = this.left[a], c = this.right[a];
+        int difference = this.height[c] - this.height[b];
+
+        if (difference > 1) {
+            return this.rotate(a, c, b, false);
+        }
+
+        if (difference < -1) {
+            return this.rotate(a, b, c, true);
+        }
+
+        return a;
+    }
+
+    /**
+     * Sobe o filho {@code up} para o lugar de {@code a}; {@code a} fica com o
+     * outro filho {@code stay} e com o mais baixo dos filhos de {@code up}.
+     */
+    private int rotate(int a, int up, int stay, boolean upIsLeft) {
+        int f = this.left[up], g = this.right[up];
+
+        this.left[up] = a;
+        this.parent[up] = this.parent[a];
+        this.parent[a] = up;
+
+        int p = this.parent[up];
+        if (p == NULL) {
+            this.root = up;
+        } else if (this.left[p] == a) {
+            this.left[p] = up;
+        } else {
+            this.right[p] = up;
+        }
+
+        int tall = this.height[f] > this.height[g] ? f : g;
+        int low = tall == f ? g : f;
+
+        this.right[up] = tall;
+        if (upIsLeft) {
+            this.left[a] = low;
+            this.right[a] = stay;
+        } else {
+            this.left[a] = stay;
+            this.right[a] = low;
+        }
+        this.parent[low] = a;
+
+        this.refit(a);
+        this.refit(up);
+
+        return up;
+    }
+
+    private int allocate() {
+        if (this.freeList == NULL) {
+            this.grow(this.parent.length * 2);
+        }
+
+        int node = this.freeList;
+        this.freeList = this.left[node];
+
+        this.parent[node] = NULL;
+        this.left[node] = NULL;
+        this.right[node] = NULL;
+        this.height[node] = 0;
+        this.layers[node] = 0;
+
+        return node;
+    }
+
+    private void release(int node) {
+        this.left[node] = this.freeList;
+        this.height[node] = -1;
+        this.freeList = node;
+    }
+
+    private void grow(int capacity) {
+        int old = this.parent.length;
+
+        this.minX = Arrays.copyOf(this.minX, capacity);
+        this.minY = Arrays.copyOf(this.minY, capacity);
+        this.maxX = Arrays.copyOf(this.maxX, capacity);
+        this.maxY = Arrays.copyOf(this.maxY, capacity);
+        this.parent = Arrays.copyOf(this.parent, capacity);
+        this.left = Arrays.copyOf(this.left, capacity);
+        this.right = Arrays.copyOf(this.right, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.layers = Arrays.copyOf(this.layers, capacity);
+        this.objects = Arrays.copyOf(this.objects, capacity);
+
+        // os nos novos entram na lista livre, o primeiro a ser usado a frente
+        for (int i = capacity - 1; i >= old; i--) {
+            this.left[i] = this.freeList;
+            this.height[i] = -1;
+            this.freeList = i;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package GameEngine.core.broadphase;
+
+import GameEngine.interfaces.IGameObject;
+import java.util.Arrays;
+
+/**
+ * Lista de pares candidatos a colisão produzida pela broadphase.
+ *
+ * <p>
+ * Os pares são guardados em dois arrays paralelos que são reutilizados de tick
+ * para tick, pelo que encher e limpar a lista não cria objetos novos (exceto
+ * quando a capacidade tem de crescer).
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class PairList {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private IGameObject[] first;
+    private IGameObject[] second;
+    private int size;
+
+    public PairList() {
+        this.first = new IGameObject[INITIAL_CAPACITY];
+        this.second = new IGameObject[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Acrescenta um par candidato.
+     *
+     * @param a Primeiro objeto do par.
+     * @param b Segundo objeto do par.
+     */
+    public void add(IGameObject a, IGameObject b) {
+        if (this.size == this.first.length) {
+            this.first = Arrays.copyOf(this.first, this.size * 2);
+            this.second = Arrays.copyOf(this.second, this.size * 2);
+        }
+
+        this.first[this.size] = a;
+        this.second[this.size] = b;
+        this.size++;
+    }
+
+    public IGameObject first(int i) {
+        return this.first[i];
+    }
+
+    public IGameObject second(int i) {
+        return this.second[i];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Esvazia a lista, largando as referências aos objetos.
+     */
+    public void clear() {
+        Arrays.fill(this.first, 0, this.size, null);
+        Arrays.fill(this.second, 0, this.size, null);
+        this.size = 0;
+    }
+}
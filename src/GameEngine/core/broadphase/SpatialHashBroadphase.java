@@ -0,0 +1,271 @@
+package GameEngine.core.broadphase;
+
+/**
+ * Broadphase baseada numa grelha uniforme com hashing espacial.
+ *
+ * <p>
+ * Em cada tick, a caixa envolvente do collider de cada objeto é inserida em
+ * todas as células da grelha que toca. Só os objetos que partilham uma célula
+ * (e cujas caixas se intersetam) são devolvidos como pares candidatos, pelo que
+ * o custo depende do número de pares próximos e não de n².
+ * </p>
+ *
+ * <p>
+ * A tabela de células é uma tabela de endereçamento aberto, limpa de tick para
+ * tick através de um carimbo (stamp) em vez de ser apagada, e todos os arrays
+ * são reutilizados. Um par que partilhe várias células só é reportado na
+ * célula que contém o canto mínimo da interseção das duas caixas.
+ * </p>
+ *
+ * <p>
+ * Os objetos fixos (estáticos e corpos a dormir) ficam numa segunda grelha,
+ * que só é reconstruída quando algum deles muda. Em cada tick só os objetos
+ * dinâmicos são inseridos, e cada célula dinâmica é comparada com a célula
+ * fixa da mesma posição. Um nível cheio de plataformas, cenário estático ou
+ * corpos em repouso deixa assim de pagar a reinserção desses objetos em todos
+ * os ticks.
+ * </p>
+ *
+ * @see PairList
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class SpatialHashBroadphase extends Broadphase {
+    public static final double DEFAULT_CELL_SIZE = 128;
+
+    /**
+     * Tabela de células com endereçamento aberto e listas ligadas de objetos
+     * por célula.
+     */
+    private static final class Grid {
+        private long[] cellKeys;
+        private int[] cellHeads;
+        private int[] cellStamps;
+        private int stamp;
+
+        private int[] usedCells;
+        private int usedCount;
+
+        private int[] entryObject;
+        private int[] entryNext;
+        private int entryCount;
+
+        private Grid() {
+            this.allocateTable(INITIAL_CAPACITY);
+
+            this.entryObject = new int[INITIAL_CAPACITY];
+            this.entryNext = new int[INITIAL_CAPACITY];
+            this.entryCount = 0;
+        }
+
+        /**
+         * Esvazia a grelha, garantindo espaço para o número de inserções
+         * indicado.
+         */
+        private void clear(int totalEntries) {
+            totalEntries = Math.max(totalEntries, 1);
+
+            if (this.cellKeys.length < totalEntries * 2) {
+                this.allocateTable(Integer.highestOneBit(totalEntries * 2 - 1) << 1);
+            }
+
+            if (this.entryObject.length < totalEntries) {
+                this.entryObject = new int[totalEntries];
+                this.entryNext = new int[totalEntries];
+            }
+
+            this.stamp++;
+            this.usedCount = 0;
+            this.entryCount = 0;
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private void insert(int object, long key) {
+            int mask = this.cellKeys.length - 1;
+            int slot = slot(key, mask);
+
+            while (this.cellStamps[slot] == this.stamp && this.cellKeys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (this.cellStamps[slot] != this.stamp) {
+                this.cellStamps[slot] = this.stamp;
+                this.cellKeys[slot] = key;
+                this.cellHeads[slot] = -1;
+                this.usedCells[this.usedCount++] = slot;
+            }
+
+            this.entryObject[this.entryCount] = object;
+            this.entryNext[this.entryCount] = this.cellHeads[slot];
+            this.cellHeads[slot] = this.entryCount++;
+        }
+
+        /**
+         * Primeira entrada da célula, ou {@code -1} se a célula estiver vazia.
+         */
+        private int head(long key) {
+            int mask = this.cellKeys.length - 1;
+            int slot = slot(key, mask);
+
+            while (this.cellStamps[slot] == this.stamp) {
+                if (this.cellKeys[slot] == key) {
+                    return this.cellHeads[slot];
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            return -1;
+        }
+
+        private void allocateTable(int capacity) {
+            this.cellKeys = new long[capacity];
+            this.cellHeads = new int[capacity];
+            this.cellStamps = new int[capacity];
+            this.usedCells = new int[capacity];
+            this.stamp = 0;
+        }
+    }
+
+    private double cellSize;
+    private double invCellSize;
+
+    // objetos dinamicos, reconstruida em cada tick, e objetos fixos
+    private final Grid dynamicGrid;
+    private final Grid staticGrid;
+
+    public SpatialHashBroadphase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialHashBroadphase(double cellSize) {
+        this.setCellSize(cellSize);
+
+        this.dynamicGrid = new Grid();
+        this.staticGrid = new Grid();
+    }
+
+    /**
+     * Define o lado de cada célula da grelha. Deve ser da ordem de grandeza do
+     * tamanho típico dos colliders.
+     *
+     * @param cellSize Lado da célula, em pixeis.
+     */
+    public void setCellSize(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be > 0");
+        }
+
+        this.cellSize = cellSize;
+        this.invCellSize = 1.0 / cellSize;
+        this.staticDirty = true;
+    }
+
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    @Override
+    public void findPairs(PairList pairs) {
+        pairs.clear();
+
+        this.readBounds();
+
+        if (this.staticDirty) {
+            this.fill(this.staticGrid, true);
+            this.staticDirty = false;
+        }
+
+        this.fill(this.dynamicGrid, false);
+
+        Grid grid = this.dynamicGrid;
+
+        for (int c = 0; c < grid.usedCount; c++) {
+            int slot = grid.usedCells[c];
+            long key = grid.cellKeys[slot];
+            int cx = (int) (key >> 32);
+            int cy = (int) key;
+            int statics = this.staticGrid.head(key);
+
+            for (int p = grid.cellHeads[slot]; p != -1; p = grid.entryNext[p]) {
+                int i = grid.entryObject[p];
+
+                for (int q = grid.entryNext[p]; q != -1; q = grid.entryNext[q]) {
+                    this.report(pairs, i, grid.entryObject[q], cx, cy);
+                }
+
+                for (int q = statics; q != -1; q = this.staticGrid.entryNext[q]) {
+                    this.report(pairs, i, this.staticGrid.entryObject[q], cx, cy);
+                }
+            }
+        }
+    }
+
+    private void report(PairList pairs, int i, int j, int cx, int cy) {
+        if (!this.canPair(i, j) || !this.overlaps(i, j)) {
+            return;
+        }
+
+        // o par so e reportado na celula do canto minimo da intersecao
+        if (this.cell(Math.max(this.minX[i], this.minX[j])) != cx
+                || this.cell(Math.max(this.minY[i], this.minY[j])) != cy) {
+            return;
+        }
+
+        pairs.add(this.members[i], this.members[j]);
+    }
+
+    /**
+     * Reconstrói uma grelha com os membros fixos ou com os dinâmicos.
+     */
+    private void fill(Grid grid, boolean fixed) {
+        grid.clear(this.countEntries(fixed));
+
+        for (int i = 0; i < this.memberCount; i++) {
+            if (!this.interacts[i] || this.fixed[i] != fixed) {
+                continue;
+            }
+
+            int cx0 = this.cell(this.minX[i]), cx1 = this.cell(this.maxX[i]);
+            int cy0 = this.cell(this.minY[i]), cy1 = this.cell(this.maxY[i]);
+
+            for (int cx = cx0; cx <= cx1; cx++) {
+                for (int cy = cy0; cy <= cy1; cy++) {
+                    grid.insert(i, ((long) cx << 32) | (cy & 0xFFFFFFFFL));
+                }
+            }
+        }
+    }
+
+    /**
+     * Devolve o número total de inserções (objeto, célula) dos membros fixos
+     * ou dos dinâmicos.
+     */
+    private int countEntries(boolean fixed) {
+        int total = 0;
+
+        for (int i = 0; i < this.memberCount; i++) {
+            if (!this.interacts[i] || this.fixed[i] != fixed) {
+                continue;
+            }
+
+            total += (this.cell(this.maxX[i]) - this.cell(this.minX[i]) + 1)
+                    * (this.cell(this.maxY[i]) - this.cell(this.minY[i]) + 1);
+        }
+
+        return total;
+    }
+
+    private int cell(double v) {
+        return (int) Math.floor(v * this.invCellSize);
+    }
+}
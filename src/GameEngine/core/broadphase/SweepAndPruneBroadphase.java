@@ -0,0 +1,167 @@
+package GameEngine.core.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * Broadphase sweep-and-prune sobre o eixo dos {@code x}.
+ *
+ * <p>
+ * Cada objeto contribui com dois extremos (o mínimo e o máximo da sua caixa
+ * envolvente em {@code x}) para uma lista ordenada que é mantida entre ticks.
+ * Como os objetos se movem pouco de um tick para o outro, a lista está quase
+ * ordenada e é reparada com insertion sort em tempo praticamente linear. Um
+ * varrimento da lista mantém o conjunto de intervalos abertos e só testa o eixo
+ * dos {@code y} entre objetos cujos intervalos em {@code x} se sobrepõem.
+ * </p>
+ *
+ * <p>
+ * Funciona melhor em cenas densas e quase estáticas; com muitos objetos rápidos
+ * a reparação da ordem deixa de ser barata. Inserir ou remover objetos custa
+ * O(n).
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class SweepAndPruneBroadphase extends Broadphase {
+    // extremos: valor e (dono << 1 | 1 se for maximo)
+    private double[] endpointValue;
+    private int[] endpointData;
+    private int endpointCount;
+
+    // intervalos abertos durante o varrimento
+    private int[] active;
+    private int[] activePos;
+    private int activeCount;
+
+    public SweepAndPruneBroadphase() {
+        this.endpointValue = new double[INITIAL_CAPACITY * 2];
+        this.endpointData = new int[INITIAL_CAPACITY * 2];
+        this.endpointCount = 0;
+
+        this.active = new int[INITIAL_CAPACITY];
+        this.activePos = new int[INITIAL_CAPACITY];
+        this.activeCount = 0;
+    }
+
+    @Override
+    void added(int index) {
+        if (this.endpointCount + 2 > this.endpointData.length) {
+            int capacity = this.endpointData.length * 2;
+
+            this.endpointValue = Arrays.copyOf(this.endpointValue, capacity);
+            this.endpointData = Arrays.copyOf(this.endpointData, capacity);
+        }
+
+        if (index >= this.active.length) {
+            this.active = Arrays.copyOf(this.active, this.active.length * 2);
+            this.activePos = Arrays.copyOf(this.activePos, this.activePos.length * 2);
+        }
+
+        // a posicao certa dos novos extremos e encontrada no proximo insertion sort
+        this.endpointValue[this.endpointCount] = Double.NEGATIVE_INFINITY;
+        this.endpointData[this.endpointCount++] = index << 1;
+        this.endpointValue[this.endpointCount] = Double.POSITIVE_INFINITY;
+        this.endpointData[this.endpointCount++] = index << 1 | 1;
+    }
+
+    @Override
+    void removed(int index, int last) {
+        int n = 0;
+
+        for (int e = 0; e < this.endpointCount; e++) {
+            int data = this.endpointData[e];
+            int owner = data >> 1;
+
+            if (owner == index) {
+                continue;
+            }
+
+            if (owner == last) {
+                data = index << 1 | (data & 1);
+            }
+
+            this.endpointValue[n] = this.endpointValue[e];
+            this.endpointData[n++] = data;
+        }
+
+        this.endpointCount = n;
+    }
+
+    @Override
+    public void findPairs(PairList pairs) {
+        pairs.clear();
+
+        this.readBounds();
+        this.updateEndpoints();
+        this.sortEndpoints();
+
+        this.activeCount = 0;
+
+        for (int e = 0; e < this.endpointCount; e++) {
+            int data = this.endpointData[e];
+            int owner = data >> 1;
+
+            if (!this.interacts[owner]) {
+                continue;
+            }
+
+            if ((data & 1) == 1) {
+                // fecha o intervalo: remove do conjunto ativo por troca com o ultimo
+                int pos = this.activePos[owner];
+                int moved = this.active[--this.activeCount];
+
+                this.active[pos] = moved;
+                this.activePos[moved] = pos;
+                continue;
+            }
+
+            for (int k = 0; k < this.activeCount; k++) {
+                int other = this.active[k];
+
+                if (this.canPair(owner, other)
+                        && this.minY[owner] <= this.maxY[other] && this.minY[other] <= this.maxY[owner]) {
+                    pairs.add(this.members[other], this.members[owner]);
+                }
+            }
+
+            this.activePos[owner] = this.activeCount;
+            this.active[this.activeCount++] = owner;
+        }
+    }
+
+    private void updateEndpoints() {
+        for (int e = 0; e < this.endpointCount; e++) {
+            int data = this.endpointData[e];
+            int owner = data >> 1;
+
+            this.endpointValue[e] = (data & 1) == 0 ? this.minX[owner] : this.maxX[owner];
+        }
+    }
+
+    /**
+     * Insertion sort dos extremos. Em caso de empate, os mínimos vêm antes dos
+     * máximos, para que caixas que apenas se tocam sejam consideradas
+     * sobrepostas.
+     */
+    private void sortEndpoints() {
+        for (int e = 1; e < this.endpointCount; e++) {
+            double value = this.endpointValue[e];
+            int data = this.endpointData[e];
+            int j = e - 1;
+
+            while (j >= 0 && (this.endpointValue[j] > value
+                    || (this.endpointValue[j] == value && (this.endpointData[j] & 1) > (data & 1)))) {
+                this.endpointValue[j + 1] = this.endpointValue[j];
+                this.endpointData[j + 1] = this.endpointData[j];
+                j--;
+            }
+
+            this.endpointValue[j + 1] = value;
+            this.endpointData[j + 1] = data;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package GameEngine.core.physics;
+
+import GameEngine.core.CollCircle;
+import GameEngine.core.CollPoly;
+import GameEngine.interfaces.ICollider;
+import java.util.Arrays;
+
+/**
+ * Gera o contacto (normal e profundidade de penetração) entre dois colliders
+ * que se intersetam.
+ *
+ * <p>
+ * Os contactos com círculos são calculados analiticamente. Entre dois
+ * polígonos é usado GJK para obter um triângulo da diferença de Minkowski que
+ * contém a origem, seguido de EPA (Expanding Polytope Algorithm) para
+ * encontrar a aresta dessa diferença mais próxima da origem. Os polígonos são
+ * tratados pelo seu invólucro convexo.
+ * </p>
+ *
+ * <p>
+ * O resultado fica nos campos {@link #normalX}, {@link #normalY} e
+ * {@link #depth}; a normal aponta do primeiro collider para o segundo. Os
+ * arrays de trabalho do EPA são reutilizados entre chamadas, pelo que uma
+ * instância não pode ser usada por várias threads ao mesmo tempo.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+class ContactGenerator {
+    private static final double TOLERANCE = 1e-9;
+    private static final double EPA_TOLERANCE = 1e-6;
+
+    double normalX, normalY, depth;
+
+    // politopo do EPA, no sentido anti-horario
+    private double[] polyX, polyY;
+    private int polyCount;
+
+    ContactGenerator() {
+        this.polyX = new double[16];
+        this.polyY = new double[16];
+    }
+
+    /**
+     * Calcula o contacto entre dois colliders.
+     *
+     * @param a Primeiro collider.
+     * @param b Segundo collider.
+     * @return {@code true} se houver penetração.
+     */
+    boolean generate(ICollider a, ICollider b) {
+        if (a instanceof CollCircle && b instanceof CollCircle) {
+            return this.circleCircle((CollCircle) a, (CollCircle) b);
+        }
+
+        if (a instanceof CollPoly && b instanceof CollCircle) {
+            return this.polyCircle((CollPoly) a, (CollCircle) b);
+        }
+
+        if (a instanceof CollCircle && b instanceof CollPoly) {
+            if (!this.polyCircle((CollPoly) b, (CollCircle) a)) {
+                return false;
+            }
+
+            this.normalX = -this.normalX;
+            this.normalY = -this.normalY;
+            return true;
+        }
+
+        if (a instanceof CollPoly && b instanceof CollPoly) {
+            return this.polyPoly((CollPoly) a, (CollPoly) b);
+        }
+
+        return false;
+    }
+
+    private boolean circleCircle(CollCircle a, CollCircle b) {
+        double dx = b.getCenter().getX() - a.getCenter().getX();
+        double dy = b.getCenter().getY() - a.getCenter().getY();
+        double radius = a.getRadius() + b.getRadius();
+        double dist2 = dx * dx + dy * dy;
+
+        if (dist2 >= radius * radius) {
+            return false;
+        }
+
+        double dist = Math.sqrt(dist2);
+
+        if (dist < TOLERANCE) {
+            this.normalX = 1;
+            this.normalY = 0;
+        } else {
+            this.normalX = dx / dist;
+            this.normalY = dy / dist;
+        }
+
+        this.depth = radius - dist;
+        return true;
+    }
+
+    private boolean polyCircle(CollPoly poly, CollCircle circle) {
+        int n = poly.getNumVertices();
+        double cx = circle.getCenter().getX();
+        double cy = circle.getCenter().getY();
+        double radius = circle.getRadius();
+
+        // ponto da fronteira do poligono mais proximo do centro
+        double best = Double.POSITIVE_INFINITY, qx = 0, qy = 0;
+        boolean inside = false;
+
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double ax = poly.vertexX(j), ay = poly.vertexY(j);
+            double bx = poly.vertexX(i), by = poly.vertexY(i);
+            double ex = bx - ax, ey = by - ay;
+            double len2 = ex * ex + ey * ey;
+            double t = len2 > 0 ? ((cx - ax) * ex + (cy - ay) * ey) / len2 : 0;
+
+            t = Math.max(0, Math.min(1, t));
+
+            double px = ax + ex * t, py = ay + ey * t;
+            double d2 = (cx - px) * (cx - px) + (cy - py) * (cy - py);
+
+            if (d2 < best) {
+                best = d2;
+                qx = px;
+                qy = py;
+            }
+
+            if ((ay > cy) != (by > cy) && cx < ax + ex * (cy - ay) / ey) {
+                inside = !inside;
+            }
+        }
+
+        double dist = Math.sqrt(best);
+
+        if (!inside && dist >= radius) {
+            return false;
+        }
+
+        if (dist < TOLERANCE) {
+            // centro sobre a fronteira: empurra a partir do centro do poligono
+            double dx = cx - (poly.minX() + poly.maxX()) / 2;
+            double dy = cy - (poly.minY() + poly.maxY()) / 2;
+            double len = Math.sqrt(dx * dx + dy * dy);
+
+            this.normalX = len < TOLERANCE ? 1 : dx / len;
+            this.normalY = len < TOLERANCE ? 0 : dy / len;
+            this.depth = radius;
+        } else if (inside) {
+            this.normalX = (qx - cx) / dist;
+            this.normalY = (qy - cy) / dist;
+            this.depth = radius + dist;
+        } else {
+            this.normalX = (cx - qx) / dist;
+            this.normalY = (cy - qy) / dist;
+            this.depth = radius - dist;
+        }
+
+        return true;
+    }
+
+    private static int farthest(CollPoly p, double dx, double dy) {
+        int n = p.getNumVertices();
+        int position = 0;
+        double best = p.vertexX(0) * dx + p.vertexY(0) * dy;
+
+        for (int i = 1; i < n; i++) {
+            double dot = p.vertexX(i) * dx + p.vertexY(i) * dy;
+
+            if (dot > best) {
+                best = dot;
+                position = i;
+            }
+        }
+
+        return position;
+    }
+
+    private boolean polyPoly(CollPoly a, CollPoly b) {
+        if (!this.gjk(a, b,
+                (a.minX() + a.maxX() - b.minX() - b.maxX()) / 2,
+                (a.minY() + a.maxY() - b.minY() - b.maxY()) / 2)) {
+            return false;
+        }
+
+        return this.epa(a, b);
+    }
+
+    /**
+     * GJK que termina com o triângulo que contém a origem nas três primeiras
+     * posições do politopo. Contactos apenas tangentes não contam.
+     */
+    private boolean gjk(CollPoly pa, CollPoly pb, double dx, double dy) {
+        double ax, ay, bx = 0, by = 0, cx = 0, cy = 0;
+        int size;
+
+        if (dx * dx + dy * dy < TOLERANCE) {
+            dx = 1;
+            dy = 0;
+        }
+
+        int i = farthest(pa, dx, dy);
+        int j = farthest(pb, -dx, -dy);
+
+        ax = pa.vertexX(i) - pb.vertexX(j);
+        ay = pa.vertexY(i) - pb.vertexY(j);
+        size = 1;
+
+        dx = -ax;
+        dy = -ay;
+
+        for (int its = pa.getNumVertices() + pb.getNumVertices(); its > 0; its--) {
+            if (dx * dx + dy * dy < TOLERANCE) {
+                return false;
+            }
+
+            i = farthest(pa, dx, dy);
+            j = farthest(pb, -dx, -dy);
+
+            double sx = pa.vertexX(i) - pb.vertexX(j);
+            double sy = pa.vertexY(i) - pb.vertexY(j);
+            double reach = sx * dx + sy * dy;
+
+            if (reach < 0 || reach - (ax * dx + ay * dy) <= TOLERANCE) {
+                return false;
+            }
+
+            cx = bx;
+            cy = by;
+            bx = ax;
+            by = ay;
+            ax = sx;
+            ay = sy;
+            size++;
+
+            double abx = bx - ax, aby = by - ay;
+
+            if (size == 2) {
+                dx = -aby;
+                dy = abx;
+
+                if (dx * -ax + dy * -ay < 0) {
+                    dx = -dx;
+                    dy = -dy;
+                }
+
+                continue;
+            }
+
+            double acx = cx - ax, acy = cy - ay;
+            double abPx = -aby, abPy = abx;
+
+            if (abPx * acx + abPy * acy > 0) {
+                abPx = -abPx;
+                abPy = -abPy;
+            }
+
+            double acPx = -acy, acPy = acx;
+
+            if (acPx * abx + acPy * aby > 0) {
+                acPx = -acPx;
+                acPy = -acPy;
+            }
+
+            if (abPx * -ax + abPy * -ay > 0) {
+                size = 2;
+                dx = abPx;
+                dy = abPy;
+            } else if (acPx * -ax + acPy * -ay > 0) {
+                bx = cx;
+                by = cy;
+                size = 2;
+                dx = acPx;
+                dy = acPy;
+            } else {
+                // triangulo no sentido anti-horario
+                boolean ccw = abx * acy - aby * acx > 0;
+
+                this.polyX[0] = ax;
+                this.polyY[0] = ay;
+                this.polyX[1] = ccw ? bx : cx;
+                this.polyY[1] = ccw ? by : cy;
+                this.polyX[2] = ccw ? cx : bx;
+                this.polyY[2] = ccw ? cy : by;
+                this.polyCount = 3;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Expande o politopo a partir do triângulo do GJK até encontrar a aresta
+     * da diferença de Minkowski mais próxima da origem.
+     */
+    private boolean epa(CollPoly pa, CollPoly pb) {
+        double bestX = 0, bestY = 0, bestDist = Double.POSITIVE_INFINITY;
+
+        for (int its = 2 * (pa.getNumVertices() + pb.getNumVertices()); its > 0; its--) {
+            int edge = -1;
+
+            bestDist = Double.POSITIVE_INFINITY;
+
+            for (int i = 0; i < this.polyCount; i++) {
+                int k = (i + 1) % this.polyCount;
+                double ex = this.polyX[k] - this.polyX[i];
+                double ey = this.polyY[k] - this.polyY[i];
+                double len = Math.sqrt(ex * ex + ey * ey);
+
+                if (len < TOLERANCE) {
+                    continue;
+                }
+
+                // normal exterior de uma aresta num poligono anti-horario
+                double nx = ey / len, ny = -ex / len;
+                double dist = nx * this.polyX[i] + ny * this.polyY[i];
+
+                if (dist < bestDist) {
+                    bestDist = dist;
+                    bestX = nx;
+                    bestY = ny;
+                    edge = i;
+                }
+            }
+
+            if (edge < 0) {
+                return false;
+            }
+
+            int i = farthest(pa, bestX, bestY);
+            int j = farthest(pb, -bestX, -bestY);
+            double sx = pa.vertexX(i) - pb.vertexX(j);
+            double sy = pa.vertexY(i) - pb.vertexY(j);
+
+            if (sx * bestX + sy * bestY - bestDist < EPA_TOLERANCE) {
+                break;
+            }
+
+            this.insert(edge + 1, sx, sy);
+        }
+
+        if (bestDist <= TOLERANCE) {
+            return false;
+        }
+
+        this.normalX = bestX;
+        this.normalY = bestY;
+        this.depth = bestDist;
+        return true;
+    }
+
+    private void insert(int at, double x, double y) {
+        if (this.polyCount == this.polyX.length) {
+            this.polyX = Arrays.copyOf(this.polyX, this.polyCount * 2);
+            this.polyY = Arrays.copyOf(this.polyY, this.polyCount * 2);
+        }
+
+        System.arraycopy(this.polyX, at, this.polyX, at + 1, this.polyCount - at);
+        System.arraycopy(this.polyY, at, this.polyY, at + 1, this.polyCount - at);
+
+        this.polyX[at] = x;
+        this.polyY[at] = y;
+        this.polyCount++;
+    }
+}
@@ -0,0 +1,553 @@
+package GameEngine.core.physics;
+
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IRigidBody;
+import GameEngine.interfaces.ITransform;
+import java.util.Arrays;
+
+/**
+ * Mundo físico da engine: move os objetos com corpo rígido
+ * ({@link RigidBody}) e separa-os dos objetos com que colidem.
+ *
+ * <p>
+ * Em cada tick a engine chama {@link #begin()}, depois
+ * {@link #integrate(IGameObject, long)} para cada objeto ativo,
+ * {@link #addContact(IGameObject, IGameObject)} para cada par que a
+ * narrowphase confirmou e, por fim, {@link #solve(long)}. O solver usa
+ * impulsos sequenciais (com atrito e restituição) durante um número
+ * configurável de iterações, seguido de uma correção de posição que retira a
+ * penetração restante.
+ * </p>
+ *
+ * <p>
+ * Os corpos ligados por contactos formam ilhas. Quando todos os corpos de uma
+ * ilha estão parados há algum tempo, a ilha adormece: os seus corpos deixam de
+ * ser integrados, os seus colliders deixam de ser atualizados e os pares entre
+ * corpos a dormir saltam a narrowphase e o solver. Basta um corpo acordado ou
+ * um objeto em movimento tocar na ilha para a acordar toda.
+ * </p>
+ *
+ * <p>
+ * O solver só trata movimento linear; a rotação dos objetos continua a ser da
+ * responsabilidade dos seus comportamentos.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class PhysicsWorld {
+    public static final int DEFAULT_ITERATIONS = 8;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // velocidade (unidades/s) abaixo da qual um corpo conta como parado
+    private static final double SLEEP_VELOCITY = 2.0;
+    // tempo (s) que uma ilha tem de estar parada para adormecer
+    private static final double TIME_TO_SLEEP = 0.5;
+    // penetracao tolerada e fracao corrigida por tick
+    private static final double SLOP = 0.5;
+    private static final double CORRECTION = 0.8;
+    // velocidade de impacto (unidades/s) abaixo da qual nao ha ressalto
+    private static final double BOUNCE_THRESHOLD = 30.0;
+
+    private int iterations;
+    private double gravityX, gravityY;
+
+    private final ContactGenerator generator;
+
+    // corpos vistos neste tick
+    private RigidBody[] bodies;
+    private IGameObject[] owners;
+    private boolean[] corrected;
+    private boolean[] islandAwake;
+    private double[] islandRest;
+    private int bodyCount;
+
+    // contactos deste tick; um corpo null e um obstaculo estatico
+    private RigidBody[] contactA, contactB;
+    private double[] normalX, normalY, depth;
+    private double[] massNormal, bounce, friction;
+    private double[] normalImpulse, tangentImpulse;
+    private boolean[] active;
+    private int contactCount;
+
+    public PhysicsWorld() {
+        this.iterations = DEFAULT_ITERATIONS;
+        this.gravityX = 0;
+        this.gravityY = 0;
+
+        this.generator = new ContactGenerator();
+
+        this.bodies = new RigidBody[INITIAL_CAPACITY];
+        this.owners = new IGameObject[INITIAL_CAPACITY];
+        this.corrected = new boolean[INITIAL_CAPACITY];
+        this.islandAwake = new boolean[INITIAL_CAPACITY];
+        this.islandRest = new double[INITIAL_CAPACITY];
+        this.bodyCount = 0;
+
+        this.contactA = new RigidBody[INITIAL_CAPACITY];
+        this.contactB = new RigidBody[INITIAL_CAPACITY];
+        this.normalX = new double[INITIAL_CAPACITY];
+        this.normalY = new double[INITIAL_CAPACITY];
+        this.depth = new double[INITIAL_CAPACITY];
+        this.massNormal = new double[INITIAL_CAPACITY];
+        this.bounce = new double[INITIAL_CAPACITY];
+        this.friction = new double[INITIAL_CAPACITY];
+        this.normalImpulse = new double[INITIAL_CAPACITY];
+        this.tangentImpulse = new double[INITIAL_CAPACITY];
+        this.active = new boolean[INITIAL_CAPACITY];
+        this.contactCount = 0;
+    }
+
+    public int iterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Define o número de iterações do solver. Mais iterações tornam pilhas de
+     * objetos mais estáveis, a troco de mais tempo por tick.
+     *
+     * @param iterations Número de iterações (pelo menos 1).
+     */
+    public void setIterations(int iterations) {
+        this.iterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Define a gravidade aplicada a todos os corpos com massa finita, em
+     * unidades por segundo ao quadrado. Por omissão não há gravidade.
+     *
+     * @param gx Componente {@code x} da gravidade.
+     * @param gy Componente {@code y} da gravidade.
+     */
+    public void setGravity(double gx, double gy) {
+        this.gravityX = gx;
+        this.gravityY = gy;
+    }
+
+    private static RigidBody body(IGameObject go) {
+        IRigidBody body = go.rigidBody();
+
+        return body instanceof RigidBody ? (RigidBody) body : null;
+    }
+
+    private static boolean moved(ITransform t) {
+        return t.getPosition().getX() != t.getPreviousPosition().getX()
+                || t.getPosition().getY() != t.getPreviousPosition().getY()
+                || t.angle() != t.previousAngle()
+                || t.scale() != t.previousScale();
+    }
+
+    /**
+     * Um objeto está parado se for um corpo a dormir, ou se não tiver corpo e
+     * o seu transform não tiver mudado neste tick.
+     */
+    private static boolean still(IGameObject go, RigidBody body) {
+        return body != null ? body.sleeping : !moved(go.transform());
+    }
+
+    /**
+     * Começa um novo tick.
+     */
+    public void begin() {
+        Arrays.fill(this.bodies, 0, this.bodyCount, null);
+        Arrays.fill(this.owners, 0, this.bodyCount, null);
+        Arrays.fill(this.contactA, 0, this.contactCount, null);
+        Arrays.fill(this.contactB, 0, this.contactCount, null);
+
+        this.bodyCount = 0;
+        this.contactCount = 0;
+    }
+
+    /**
+     * Regista o corpo de um objeto neste tick e move-o de acordo com a sua
+     * velocidade. Deve ser chamado depois do comportamento do objeto ter sido
+     * atualizado.
+     *
+     * @param go        Objeto ativo.
+     * @param deltaTime Duração do tick, em milissegundos.
+     * @return {@code false} se o objeto tiver um corpo a dormir que não foi
+     *         movido, caso em que o seu collider não precisa de ser
+     *         atualizado; {@code true} caso contrário.
+     */
+    public boolean integrate(IGameObject go, long deltaTime) {
+        RigidBody body = body(go);
+
+        if (body == null) {
+            return true;
+        }
+
+        if (this.bodyCount == this.bodies.length) {
+            int capacity = this.bodyCount * 2;
+
+            this.bodies = Arrays.copyOf(this.bodies, capacity);
+            this.owners = Arrays.copyOf(this.owners, capacity);
+            this.corrected = new boolean[capacity];
+            this.islandAwake = new boolean[capacity];
+            this.islandRest = new double[capacity];
+        }
+
+        body.index = this.bodyCount;
+        body.parent = this.bodyCount;
+        this.bodies[this.bodyCount] = body;
+        this.owners[this.bodyCount++] = go;
+
+        ITransform t = go.transform();
+
+        if (body.sleeping) {
+            if (!moved(t)) {
+                return false;
+            }
+
+            body.wake();
+        }
+
+        double dt = deltaTime / 1000.0;
+        double vx = body.velocity().getX();
+        double vy = body.velocity().getY();
+
+        if (body.inverseMass() > 0) {
+            vx += this.gravityX * dt;
+            vy += this.gravityY * dt;
+            body.velocity().set(vx, vy);
+        }
+
+        if (vx != 0 || vy != 0) {
+            t.getPosition().set(t.getPosition().getX() + vx * dt, t.getPosition().getY() + vy * dt);
+        }
+
+        return true;
+    }
+
+    /**
+     * Verifica se um par pode ser ignorado pela narrowphase neste tick: pelo
+     * menos um dos objetos tem um corpo a dormir e nenhum dos dois se moveu,
+     * pelo que o contacto entre eles é o mesmo do tick anterior.
+     *
+     * @param a Primeiro objeto.
+     * @param b Segundo objeto.
+     * @return {@code true} se o par estiver em repouso.
+     */
+    public boolean isResting(IGameObject a, IGameObject b) {
+        RigidBody ba = body(a);
+        RigidBody bb = body(b);
+
+        if ((ba == null || !ba.sleeping) && (bb == null || !bb.sleeping)) {
+            return false;
+        }
+
+        return still(a, ba) && still(b, bb);
+    }
+
+    /**
+     * Gera o contacto entre dois objetos cujos colliders se intersetam. Pares
+     * sem nenhum corpo que se possa mover são ignorados.
+     *
+     * @param a Primeiro objeto.
+     * @param b Segundo objeto.
+     */
+    public void addContact(IGameObject a, IGameObject b) {
+        RigidBody ba = body(a);
+        RigidBody bb = body(b);
+
+        if ((ba == null || ba.inverseMass() == 0) && (bb == null || bb.inverseMass() == 0)) {
+            return;
+        }
+
+        if (!this.generator.generate(a.collider(), b.collider())) {
+            return;
+        }
+
+        this.store(a, ba, b, bb, this.generator.normalX, this.generator.normalY, this.generator.depth);
+    }
+
+    /**
+     * Regista o contacto de um impacto encontrado pela deteção contínua. Os
+     * objetos ficaram encostados, sem penetração, pelo que o solver só anula a
+     * velocidade de aproximação ao longo da normal.
+     *
+     * @param a  Objeto que se moveu.
+     * @param b  Objeto em que tocou.
+     * @param nx Componente {@code x} da normal, de {@code a} para {@code b}.
+     * @param ny Componente {@code y} da normal.
+     */
+    public void addSweptContact(IGameObject a, IGameObject b, double nx, double ny) {
+        RigidBody ba = body(a);
+        RigidBody bb = body(b);
+
+        if ((ba == null || ba.inverseMass() == 0) && (bb == null || bb.inverseMass() == 0)) {
+            return;
+        }
+
+        this.store(a, ba, b, bb, nx, ny, 0);
+    }
+
+    private void store(IGameObject a, RigidBody ba, IGameObject b, RigidBody bb, double nx, double ny,
+            double depth) {
+        // um objeto em movimento acorda o corpo em que toca
+        if (ba != null && ba.sleeping && !still(b, bb)) {
+            ba.wake();
+        }
+
+        if (bb != null && bb.sleeping && !still(a, ba)) {
+            bb.wake();
+        }
+
+        if (this.contactCount == this.contactA.length) {
+            this.growContacts();
+        }
+
+        int c = this.contactCount++;
+
+        this.contactA[c] = ba;
+        this.contactB[c] = bb;
+        this.normalX[c] = nx;
+        this.normalY[c] = ny;
+        this.depth[c] = depth;
+    }
+
+    private void growContacts() {
+        int capacity = this.contactCount * 2;
+
+        this.contactA = Arrays.copyOf(this.contactA, capacity);
+        this.contactB = Arrays.copyOf(this.contactB, capacity);
+        this.normalX = Arrays.copyOf(this.normalX, capacity);
+        this.normalY = Arrays.copyOf(this.normalY, capacity);
+        this.depth = Arrays.copyOf(this.depth, capacity);
+        this.massNormal = new double[capacity];
+        this.bounce = new double[capacity];
+        this.friction = new double[capacity];
+        this.normalImpulse = new double[capacity];
+        this.tangentImpulse = new double[capacity];
+        this.active = new boolean[capacity];
+    }
+
+    /**
+     * Resolve os contactos do tick, corrige as penetrações e atualiza o estado
+     * de sono das ilhas.
+     *
+     * @param deltaTime Duração do tick, em milissegundos.
+     */
+    public void solve(long deltaTime) {
+        double dt = deltaTime / 1000.0;
+
+        this.buildIslands();
+        this.prepareContacts();
+
+        for (int it = 0; it < this.iterations; it++) {
+            for (int c = 0; c < this.contactCount; c++) {
+                if (this.active[c]) {
+                    this.solveContact(c);
+                }
+            }
+        }
+
+        this.correctPositions();
+        this.updateSleep(dt);
+    }
+
+    private int find(int i) {
+        while (this.bodies[i].parent != i) {
+            RigidBody body = this.bodies[i];
+
+            body.parent = this.bodies[body.parent].parent;
+            i = body.parent;
+        }
+
+        return i;
+    }
+
+    private static boolean dynamic(RigidBody body) {
+        return body != null && body.inverseMass() > 0;
+    }
+
+    /**
+     * Junta os corpos ligados por contactos em ilhas e acorda as ilhas em que
+     * haja pelo menos um corpo acordado.
+     */
+    private void buildIslands() {
+        for (int c = 0; c < this.contactCount; c++) {
+            // corpos estaticos nao ligam ilhas
+            if (dynamic(this.contactA[c]) && dynamic(this.contactB[c])) {
+                int ra = this.find(this.contactA[c].index);
+                int rb = this.find(this.contactB[c].index);
+
+                if (ra != rb) {
+                    this.bodies[ra].parent = rb;
+                }
+            }
+        }
+
+        Arrays.fill(this.islandAwake, 0, this.bodyCount, false);
+
+        for (int i = 0; i < this.bodyCount; i++) {
+            if (!this.bodies[i].sleeping) {
+                this.islandAwake[this.find(i)] = true;
+            }
+        }
+
+        for (int i = 0; i < this.bodyCount; i++) {
+            if (this.bodies[i].sleeping && this.islandAwake[this.find(i)]) {
+                this.bodies[i].wake();
+            }
+        }
+    }
+
+    private void prepareContacts() {
+        for (int c = 0; c < this.contactCount; c++) {
+            RigidBody a = this.contactA[c];
+            RigidBody b = this.contactB[c];
+
+            this.active[c] = (a != null && !a.sleeping) || (b != null && !b.sleeping);
+
+            if (!this.active[c]) {
+                continue;
+            }
+
+            double invA = a != null ? a.inverseMass() : 0;
+            double invB = b != null ? b.inverseMass() : 0;
+            double vn = this.relativeVelocity(c, this.normalX[c], this.normalY[c]);
+            double restitution = Math.max(a != null ? a.restitution() : 0, b != null ? b.restitution() : 0);
+
+            this.massNormal[c] = 1 / (invA + invB);
+            this.bounce[c] = vn < -BOUNCE_THRESHOLD ? -restitution * vn : 0;
+            this.friction[c] = Math.sqrt((a != null ? a.friction() : b.friction())
+                    * (b != null ? b.friction() : a.friction()));
+            this.normalImpulse[c] = 0;
+            this.tangentImpulse[c] = 0;
+        }
+    }
+
+    /**
+     * Velocidade de {@code b} relativamente a {@code a} na direção indicada.
+     */
+    private double relativeVelocity(int c, double dx, double dy) {
+        double vx = 0, vy = 0;
+
+        if (this.contactB[c] != null) {
+            vx += this.contactB[c].velocity().getX();
+            vy += this.contactB[c].velocity().getY();
+        }
+
+        if (this.contactA[c] != null) {
+            vx -= this.contactA[c].velocity().getX();
+            vy -= this.contactA[c].velocity().getY();
+        }
+
+        return vx * dx + vy * dy;
+    }
+
+    private void solveContact(int c) {
+        double nx = this.normalX[c], ny = this.normalY[c];
+
+        // impulso normal, acumulado e limitado a ser repulsivo
+        double lambda = this.massNormal[c] * (this.bounce[c] - this.relativeVelocity(c, nx, ny));
+        double accumulated = Math.max(this.normalImpulse[c] + lambda, 0);
+
+        lambda = accumulated - this.normalImpulse[c];
+        this.normalImpulse[c] = accumulated;
+        this.applyImpulse(c, nx * lambda, ny * lambda);
+
+        // atrito, limitado pelo cone de Coulomb
+        double tx = -ny, ty = nx;
+        double maxFriction = this.friction[c] * this.normalImpulse[c];
+
+        lambda = -this.massNormal[c] * this.relativeVelocity(c, tx, ty);
+        accumulated = Math.max(-maxFriction, Math.min(maxFriction, this.tangentImpulse[c] + lambda));
+        lambda = accumulated - this.tangentImpulse[c];
+        this.tangentImpulse[c] = accumulated;
+        this.applyImpulse(c, tx * lambda, ty * lambda);
+    }
+
+    private void applyImpulse(int c, double jx, double jy) {
+        RigidBody a = this.contactA[c];
+        RigidBody b = this.contactB[c];
+
+        if (a != null) {
+            a.velocity().set(a.velocity().getX() - jx * a.inverseMass(), a.velocity().getY() - jy * a.inverseMass());
+        }
+
+        if (b != null) {
+            b.velocity().set(b.velocity().getX() + jx * b.inverseMass(), b.velocity().getY() + jy * b.inverseMass());
+        }
+    }
+
+    private void correctPositions() {
+        Arrays.fill(this.corrected, 0, this.bodyCount, false);
+
+        for (int c = 0; c < this.contactCount; c++) {
+            double excess = this.depth[c] - SLOP;
+
+            if (!this.active[c] || excess <= 0) {
+                continue;
+            }
+
+            double push = excess * CORRECTION * this.massNormal[c];
+
+            this.displace(this.contactA[c], -this.normalX[c] * push, -this.normalY[c] * push);
+            this.displace(this.contactB[c], this.normalX[c] * push, this.normalY[c] * push);
+        }
+
+        // os colliders dos corpos empurrados so sao atualizados uma vez
+        for (int i = 0; i < this.bodyCount; i++) {
+            if (this.corrected[i]) {
+                this.owners[i].collider().onUpdate();
+            }
+        }
+    }
+
+    private void displace(RigidBody body, double dx, double dy) {
+        if (!dynamic(body)) {
+            return;
+        }
+
+        ITransform t = this.owners[body.index].transform();
+
+        t.getPosition().set(
+                t.getPosition().getX() + dx * body.inverseMass(),
+                t.getPosition().getY() + dy * body.inverseMass());
+
+        this.corrected[body.index] = true;
+    }
+
+    /**
+     * Acumula o tempo parado de cada corpo e adormece as ilhas em que todos os
+     * corpos estejam parados há pelo menos {@code TIME_TO_SLEEP}.
+     */
+    private void updateSleep(double dt) {
+        Arrays.fill(this.islandRest, 0, this.bodyCount, Double.POSITIVE_INFINITY);
+
+        for (int i = 0; i < this.bodyCount; i++) {
+            RigidBody body = this.bodies[i];
+
+            if (body.sleeping) {
+                continue;
+            }
+
+            double vx = body.velocity().getX();
+            double vy = body.velocity().getY();
+
+            if (vx * vx + vy * vy < SLEEP_VELOCITY * SLEEP_VELOCITY) {
+                body.sleepTime += dt;
+            } else {
+                body.sleepTime = 0;
+            }
+
+            int root = this.find(i);
+
+            this.islandRest[root] = Math.min(this.islandRest[root], body.sleepTime);
+        }
+
+        for (int i = 0; i < this.bodyCount; i++) {
+            RigidBody body = this.bodies[i];
+
+            if (!body.sleeping && this.islandRest[this.find(i)] >= TIME_TO_SLEEP) {
+                body.sleeping = true;
+                body.velocity().set(0, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package GameEngine.core.physics;
+
+import GameEngine.core.utils.Vector;
+import GameEngine.interfaces.IRigidBody;
+
+/**
+ * Implementação de {@link IRigidBody} usada pelo {@link PhysicsWorld}.
+ *
+ * <p>
+ * O corpo só tem movimento linear: a rotação do objeto continua a ser
+ * controlada pelo seu transform e não é alterada pelas colisões.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class RigidBody implements IRigidBody {
+    private static final double DEFAULT_RESTITUTION = 0.1;
+    private static final double DEFAULT_FRICTION = 0.3;
+
+    private final double mass;
+    private final double inverseMass;
+    private final Vector velocity;
+    private double restitution;
+    private double friction;
+
+    boolean sleeping;
+    double sleepTime;
+
+    // indice no mundo durante o tick atual e pai na union-find das ilhas
+    int index;
+    int parent;
+
+    /**
+     * Cria um corpo rígido com a massa indicada.
+     *
+     * @param mass Massa do corpo; {@code Double.POSITIVE_INFINITY} cria um
+     *             corpo imóvel.
+     * @throws IllegalArgumentException Se a massa não for positiva.
+     */
+    public RigidBody(double mass) {
+        if (!(mass > 0)) {
+            throw new IllegalArgumentException("Mass must be > 0");
+        }
+
+        this.mass = mass;
+        this.inverseMass = Double.isInfinite(mass) ? 0 : 1 / mass;
+        this.velocity = new Vector(0, 0);
+        this.restitution = DEFAULT_RESTITUTION;
+        this.friction = DEFAULT_FRICTION;
+
+        this.sleeping = false;
+        this.sleepTime = 0;
+        this.index = -1;
+    }
+
+    @Override
+    public double mass() {
+        return this.mass;
+    }
+
+    @Override
+    public double inverseMass() {
+        return this.inverseMass;
+    }
+
+    @Override
+    public Vector velocity() {
+        return this.velocity;
+    }
+
+    @Override
+    public void velocity(double vx, double vy) {
+        this.velocity.set(vx, vy);
+        this.wake();
+    }
+
+    @Override
+    public void applyImpulse(double jx, double jy) {
+        this.velocity.set(
+                this.velocity.getX() + jx * this.inverseMass,
+                this.velocity.getY() + jy * this.inverseMass);
+        this.wake();
+    }
+
+    @Override
+    public double restitution() {
+        return this.restitution;
+    }
+
+    public void restitution(double restitution) {
+        this.restitution = Math.max(0, Math.min(1, restitution));
+    }
+
+    @Override
+    public double friction() {
+        return this.friction;
+    }
+
+    public void friction(double friction) {
+        this.friction = Math.max(0, friction);
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return this.sleeping;
+    }
+
+    @Override
+    public void wake() {
+        this.sleeping = false;
+        this.sleepTime = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("m=%.2f v=%s%s", this.mass, this.velocity, this.sleeping ? " (sleeping)" : "");
+    }
+}
@@ -0,0 +1,135 @@
+package GameEngine.core.simd;
+
+import GameEngine.core.CollCircle;
+import GameEngine.interfaces.IGameObject;
+import java.util.Arrays;
+
+/**
+ * Lote de pares candidatos em que os dois colliders são círculos.
+ *
+ * <p>
+ * A narrowphase junta aqui os pares círculo-círculo da broadphase, em vez de
+ * os testar um a um através de {@code isColliding}. Os centros e a soma dos
+ * raios são copiados para arrays paralelos, e {@link #run()} testa-os todos de
+ * uma vez com um {@link CircleKernel}. Os arrays são reutilizados de tick para
+ * tick.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class CircleBatch {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final CircleKernel kernel;
+
+    private IGameObject[] first, second;
+    private double[] ax, ay, bx, by, radius;
+    private int[] hits;
+    private int size;
+
+    public CircleBatch() {
+        this(CircleKernel.create());
+    }
+
+    /**
+     * Cria um lote que usa o kernel indicado.
+     *
+     * @param kernel Kernel usado em {@link #run()}.
+     */
+    public CircleBatch(CircleKernel kernel) {
+        this.kernel = kernel;
+
+        this.first = new IGameObject[INITIAL_CAPACITY];
+        this.second = new IGameObject[INITIAL_CAPACITY];
+        this.ax = new double[INITIAL_CAPACITY];
+        this.ay = new double[INITIAL_CAPACITY];
+        this.bx = new double[INITIAL_CAPACITY];
+        this.by = new double[INITIAL_CAPACITY];
+        this.radius = new double[INITIAL_CAPACITY];
+        this.hits = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    public CircleKernel kernel() {
+        return this.kernel;
+    }
+
+    /**
+     * Acrescenta um par ao lote.
+     *
+     * @param a  Primeiro objeto.
+     * @param ca Collider do primeiro objeto.
+     * @param b  Segundo objeto.
+     * @param cb Collider do segundo objeto.
+     */
+    public void add(IGameObject a, CollCircle ca, IGameObject b, CollCircle cb) {
+        if (this.size == this.first.length) {
+            int capacity = this.size * 2;
+
+            this.first = Arrays.copyOf(this.first, capacity);
+            this.second = Arrays.copyOf(this.second, capacity);
+            this.ax = Arrays.copyOf(this.ax, capacity);
+            this.ay = Arrays.copyOf(this.ay, capacity);
+            this.bx = Arrays.copyOf(this.bx, capacity);
+            this.by = Arrays.copyOf(this.by, capacity);
+            this.radius = Arrays.copyOf(this.radius, capacity);
+            this.hits = new int[capacity];
+        }
+
+        int i = this.size++;
+
+        this.first[i] = a;
+        this.second[i] = b;
+        this.ax[i] = ca.getCenter().getX();
+        this.ay[i] = ca.getCenter().getY();
+        this.bx[i] = cb.getCenter().getX();
+        this.by[i] = cb.getCenter().getY();
+        this.radius[i] = ca.getRadius() + cb.getRadius();
+    }
+
+    /**
+     * Testa todos os pares do lote.
+     *
+     * @return Número de pares que colidem.
+     */
+    public int run() {
+        return this.kernel.overlaps(this.ax, this.ay, this.bx, this.by, this.radius, this.size, this.hits);
+    }
+
+    /**
+     * Primeiro objeto do {@code k}-ésimo par que colide.
+     *
+     * @param k Índice entre {@code 0} e o valor de {@link #run()} menos 1.
+     * @return O primeiro objeto do par.
+     */
+    public IGameObject hitFirst(int k) {
+        return this.first[this.hits[k]];
+    }
+
+    /**
+     * Segundo objeto do {@code k}-ésimo par que colide.
+     *
+     * @param k Índice entre {@code 0} e o valor de {@link #run()} menos 1.
+     * @return O segundo objeto do par.
+     */
+    public IGameObject hitSecond(int k) {
+        return this.second[this.hits[k]];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Esvazia o lote, largando as referências aos objetos.
+     */
+    public void clear() {
+        Arrays.fill(this.first, 0, this.size, null);
+        Arrays.fill(this.second, 0, this.size, null);
+        this.size = 0;
+    }
+}
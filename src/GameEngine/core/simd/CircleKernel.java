@@ -0,0 +1,96 @@
+package GameEngine.core.simd;
+
+/**
+ * Kernel que testa vários pares de círculos de uma só vez.
+ *
+ * <p>
+ * Os pares chegam em arrays paralelos: centro do primeiro círculo, centro do
+ * segundo e soma dos raios. Um par colide se a distância ao quadrado entre os
+ * centros for menor do que o quadrado da soma dos raios, o mesmo critério de
+ * {@link GameEngine.core.CollCircle#isColliding(GameEngine.core.CollCircle)}.
+ * </p>
+ *
+ * <p>
+ * {@link #create()} escolhe a implementação com a Vector API
+ * ({@code jdk.incubator.vector}) quando o módulo está disponível (a JVM tem de
+ * ser arrancada com {@code --add-modules jdk.incubator.vector}) e a classe
+ * vetorial foi compilada; caso contrário usa um ciclo escalar com o mesmo
+ * resultado. A classe vetorial vive em {@code src-vector}, compilada à parte
+ * com o módulo, e é carregada por reflexão, pelo que {@code src} compila sem
+ * ele em qualquer JDK 17 ou mais recente.
+ * </p>
+ *
+ * @see CircleBatch
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public abstract class CircleKernel {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "GameEngine.core.simd.VectorCircleKernel";
+
+    /**
+     * Testa {@code count} pares e escreve em {@code hits}, por ordem
+     * crescente, os índices dos pares que colidem.
+     *
+     * @param ax     Abcissas dos centros dos primeiros círculos.
+     * @param ay     Ordenadas dos centros dos primeiros círculos.
+     * @param bx     Abcissas dos centros dos segundos círculos.
+     * @param by     Ordenadas dos centros dos segundos círculos.
+     * @param radius Soma dos raios de cada par.
+     * @param count  Número de pares.
+     * @param hits   Array com pelo menos {@code count} posições.
+     * @return Número de pares que colidem.
+     */
+    public abstract int overlaps(double[] ax, double[] ay, double[] bx, double[] by, double[] radius, int count,
+            int[] hits);
+
+    /**
+     * Retorna um nome curto da implementação, para registos e benchmarks.
+     *
+     * @return Nome da implementação.
+     */
+    public abstract String name();
+
+    /**
+     * Cria o kernel mais rápido disponível nesta JVM.
+     *
+     * @return Kernel vetorial, ou o escalar se a Vector API ou a classe
+     *         vetorial não estiverem disponíveis.
+     */
+    public static CircleKernel create() {
+        // a classe vetorial so e carregada se o modulo existir, para que a
+        // engine continue a funcionar sem --add-modules; pode tambem nao ter
+        // sido compilada
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (CircleKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // continua com o kernel escalar
+            }
+        }
+
+        return new ScalarCircleKernel();
+    }
+
+    /**
+     * Teste escalar dos pares {@code [from, count)}, usado pelo kernel escalar
+     * e pelo resto dos pares que não enchem um vetor.
+     */
+    static int overlapsScalar(double[] ax, double[] ay, double[] bx, double[] by, double[] radius, int from,
+            int count, int[] hits, int found) {
+        for (int i = from; i < count; i++) {
+            double dx = bx[i] - ax[i];
+            double dy = by[i] - ay[i];
+
+            if (dx * dx + dy * dy < radius[i] * radius[i]) {
+                hits[found++] = i;
+            }
+        }
+
+        return found;
+    }
+}
@@ -0,0 +1,25 @@
+package GameEngine.core.simd;
+
+/**
+ * Implementação escalar de {@link CircleKernel}, usada quando a Vector API
+ * não está disponível.
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+class ScalarCircleKernel extends CircleKernel {
+
+    @Override
+    public int overlaps(double[] ax, double[] ay, double[] bx, double[] by, double[] radius, int count,
+            int[] hits) {
+        return overlapsScalar(ax, ay, bx, by, radius, 0, count, hits, 0);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
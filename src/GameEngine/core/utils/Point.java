@@ -13,6 +13,13 @@ import static java.lang.Math.sqrt;
  * posições e movimentos em duas dimensões.
  * </p>
  * 
+ * <p>
+ * Todos os métodos acedem às coordenadas através de {@link #getX()},
+ * {@link #getY()} e {@link #set(double, double)}, pelo que uma subclasse pode
+ * guardar as coordenadas noutro sítio (por exemplo, em arrays partilhados) e
+ * funcionar como uma vista sobre elas.
+ * </p>
+ * 
  * @author Raquel Nunes, a83883
  * @author David Silvestre, a83938
  * @author Francisco Melo, a84085
@@ -64,8 +71,19 @@ public class Point {
      * @param vetor O vetor utilizado para mover o ponto.
      */
     public void move(Vector vetor) {
-        this.x += vetor.getX();
-        this.y += vetor.getY();
+        this.set(this.getX() + vetor.getX(), this.getY() + vetor.getY());
+    }
+
+    /**
+     * Define diretamente as coordenadas do ponto, sem criar objetos
+     * intermédios.
+     *
+     * @param x A nova abcissa.
+     * @param y A nova ordenada.
+     */
+    public void set(double x, double y) {
+        this.x = x;
+        this.y = y;
     }
 
     /**
@@ -86,7 +104,7 @@ public class Point {
         }
 
         Point p2 = (Point) obj;
-        return Double.compare(this.x, p2.x) == 0 && Double.compare(this.y, p2.y) == 0;
+        return Double.compare(this.getX(), p2.getX()) == 0 && Double.compare(this.getY(), p2.getY()) == 0;
     }
 
     /**
@@ -107,7 +125,9 @@ public class Point {
      * @return O valor do determinante que define a orientação dos pontos.
      */
     public double calcOrientation(Point q, Point r) {
-        return (q.x - x) * (r.y - y) - (q.y - y) * (r.x - x);
+        double x = this.getX(), y = this.getY();
+
+        return (q.getX() - x) * (r.getY() - y) - (q.getY() - y) * (r.getX() - x);
     }
 
     /**
@@ -117,7 +137,7 @@ public class Point {
      * @return A distância entre os dois pontos.
      */
     public double dist(Point p) {
-        return sqrt(pow(p.x - x, 2) + pow(p.y - y, 2));
+        return sqrt(pow(p.getX() - this.getX(), 2) + pow(p.getY() - this.getY(), 2));
     }
 
     /**
@@ -146,8 +166,7 @@ public class Point {
      * @param v O vetor a adicionar.
      */
     public void add(Vector v) {
-        this.x += v.getX();
-        this.y += v.getY();
+        this.move(v);
     }
 
     /**
@@ -156,7 +175,7 @@ public class Point {
      * @return Um novo ponto com coordenadas invertidas.
      */
     public Point neg() {
-        return new Point(-x, -y);
+        return new Point(-this.getX(), -this.getY());
     }
 
     /**
@@ -166,7 +185,7 @@ public class Point {
      */
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(x, y);
+        return java.util.Objects.hash(this.getX(), this.getY());
     }
 
     /**
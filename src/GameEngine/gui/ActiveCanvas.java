@@ -0,0 +1,115 @@
+package GameEngine.gui;
+
+import GameEngine.core.RenderSnapshot;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Canvas de renderização ativa: em vez de pedir ao Swing que o pinte, a
+ * thread do jogo desenha cada frame numa {@link BufferStrategy} e apresenta-o
+ * logo com {@link BufferStrategy#show()}.
+ *
+ * <p>
+ * A pintura pela thread do Swing é desligada, pelo que os frames não ficam à
+ * espera na fila de eventos nem são juntados ou descartados por ela; cada
+ * chamada a {@link #present(double)} corresponde a exatamente um frame no
+ * ecrã. A estratégia só pode ser criada depois de o canvas estar dentro de
+ * uma janela visível, o que é feito no primeiro frame.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class ActiveCanvas extends Canvas {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Número de páginas usado por omissão: um buffer visível e um de desenho.
+     */
+    public static final int DEFAULT_PAGES = 2;
+
+    private final transient ScenePainter painter;
+    private final int pages;
+
+    private transient BufferStrategy strategy;
+
+    ActiveCanvas(Dimension d, ScenePainter painter, int pages) {
+        this.setPreferredSize(d);
+        this.setBackground(Color.BLACK);
+        this.setIgnoreRepaint(true);
+
+        this.painter = painter;
+        this.pages = Math.max(2, Math.min(3, pages));
+
+        this.strategy = null;
+    }
+
+    /**
+     * Desenha e apresenta um frame.
+     *
+     * @param alpha Fator de interpolação entre o tick anterior e o atual.
+     * @return Tempo, em nanossegundos, gasto a desenhar e a apresentar o frame,
+     *         ou {@code 0} se o canvas ainda não estiver visível.
+     */
+    public long present(double alpha) {
+        this.painter.setInterpolation(alpha);
+
+        return this.present((RenderSnapshot) null);
+    }
+
+    /**
+     * Desenha e apresenta um snapshot. Pode ser chamado por uma thread de
+     * desenho própria, já que não lê o estado dos objetos.
+     *
+     * @param snapshot Snapshot a desenhar, ou {@code null} para desenhar os
+     *                 objetos diretamente.
+     * @return Tempo, em nanossegundos, gasto a desenhar e a apresentar o frame,
+     *         ou {@code 0} se o canvas ainda não estiver visível.
+     */
+    public long present(RenderSnapshot snapshot) {
+        if (!this.isDisplayable()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+
+        if (this.strategy == null) {
+            this.createBufferStrategy(this.pages);
+            this.strategy = this.getBufferStrategy();
+        }
+
+        // se a memoria de video se perder a meio, o frame e desenhado de novo
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) this.strategy.getDrawGraphics();
+
+                try {
+                    g2d.setColor(this.getBackground());
+                    g2d.fillRect(0, 0, this.getWidth(), this.getHeight());
+
+                    if (snapshot != null) {
+                        this.painter.paint(g2d, snapshot);
+                    } else {
+                        this.painter.paint(g2d);
+                    }
+                } finally {
+                    g2d.dispose();
+                }
+            } while (this.strategy.contentsRestored());
+
+            this.strategy.show();
+        } while (this.strategy.contentsLost());
+
+        // sem isto alguns sistemas de janelas guardam o frame em vez de o mostrar
+        Toolkit.getDefaultToolkit().sync();
+
+        return System.nanoTime() - start;
+    }
+}
@@ -1,47 +1,60 @@
 package GameEngine.gui;
 
+import GameEngine.core.SnapshotRing;
 import GameEngine.interfaces.IGameObject;
-import java.awt.BasicStroke;
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Stroke;
-import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
 import java.util.List;
 import javax.swing.JPanel;
 
 public class GameCanvas extends JPanel {
-    private List<IGameObject> objects;
+    private static final long serialVersionUID = 1L;
 
-    private boolean showColliders;
-    private int colliderStroke;
+    private final transient ScenePainter painter;
+    private transient SnapshotRing snapshots;
 
     public GameCanvas(Dimension d) {
+        this(d, new ScenePainter((int) d.getWidth() / 500));
+    }
+
+    GameCanvas(Dimension d, ScenePainter painter) {
         setPreferredSize(d);
 
-        this.objects = null;
+        this.painter = painter;
+        this.snapshots = null;
+    }
 
-        this.showColliders = false;
-        this.colliderStroke = (int) d.getWidth() / 500;
+    /**
+     * Passa a pintar o último snapshot publicado no anel, em vez de ler os
+     * objetos, que a thread do jogo pode estar a alterar.
+     *
+     * @param snapshots Anel de snapshots, ou {@code null} para voltar a ler
+     *                  os objetos.
+     */
+    void setSnapshots(SnapshotRing snapshots) {
+        this.snapshots = snapshots;
     }
 
     public void setObjects(List<IGameObject> objects) {
-        this.objects = objects;
+        this.painter.setObjects(objects);
     }
 
     public void setColliderStroke(int stroke) {
-        this.colliderStroke = stroke;
+        this.painter.setColliderStroke(stroke);
     }
 
     public void showColliders(boolean status) {
-        this.showColliders = status;
+        this.painter.showColliders(status);
+    }
+
+    public void setInterpolation(double alpha) {
+        this.painter.setInterpolation(alpha);
     }
 
     @Override
     protected void paintComponent(Graphics g) {
-        if (this.objects == null) {
+        if (!this.painter.hasObjects()) {
             return;
         }
 
@@ -49,38 +62,10 @@ public class GameCanvas extends JPanel {
 
         Graphics2D g2d = (Graphics2D) g;
 
-        Stroke stroke = null;
-
-        if (this.showColliders) {
-            stroke = new BasicStroke(this.colliderStroke);
-        }
-
-        for (IGameObject gameObj : this.objects) {
-            BufferedImage image = (BufferedImage) gameObj.shape().getCurrentShape();
-
-            AffineTransform at = new AffineTransform();
-
-            double posX = gameObj.transform().getPosition().getX() + gameObj.shape().getRelativePosition().getX();
-            double posY = gameObj.transform().getPosition().getY() + gameObj.shape().getRelativePosition().getY();
-
-            double centerX = image.getWidth() / 2.0;
-            double centerY = image.getHeight() / 2.0;
-
-            double rotation = Math.toRadians(gameObj.transform().angle());
-            double scale = gameObj.transform().scale();
-
-            at.translate(posX + centerX, posY + centerY);
-            at.rotate(rotation);
-            at.scale(scale, scale);
-            at.translate(-centerX, -centerY);
-
-            g2d.drawRenderedImage((BufferedImage) image, at);
-
-            if (this.showColliders) {
-                g2d.setColor(Color.RED);
-                g2d.setStroke(stroke);
-                g2d.draw(gameObj.collider().getShape());
-            }
+        if (this.snapshots != null) {
+            this.painter.paint(g2d, this.snapshots.latest());
+        } else {
+            this.painter.paint(g2d);
         }
 
         g.dispose();
@@ -1,25 +1,69 @@
 package GameEngine.gui;
 
+import GameEngine.core.RenderSnapshot;
+import GameEngine.core.SnapshotRing;
 import GameEngine.exceptions.GameWindowTooSmallException;
+import GameEngine.gui.loader.SpriteCache;
 import GameEngine.interfaces.IGameObject;
 import GameEngine.interfaces.IGameUI;
 import GameEngine.interfaces.IInputEvent;
 import GameEngine.interfaces.IInputManager;
+import java.awt.Component;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.util.List;
 
 public class GameUI implements IGameUI {
     private final GameWindow gameWindow;
-    private final GameCanvas canvas;
+    private final ScenePainter painter;
+    private final Component canvas;
+    private final ActiveCanvas activeCanvas;
     private final IInputManager inputManager;
 
+    private final SnapshotRing snapshots;
+    private final Thread renderThread;
+
+    private volatile long presentNanos;
+
     public GameUI(IInputManager inputManager, int width, int height, String title, GameUIConfig config) throws GameWindowTooSmallException {
         this.gameWindow = new GameWindow(width, height);
 
         this.inputManager = inputManager;
 
-        this.canvas = new GameCanvas(this.gameWindow.getPreferredSize());
+        this.painter = new ScenePainter((int) this.gameWindow.getPreferredSize().getWidth() / 500);
+
+        if (config != null) {
+            SpriteCache.shared().setBudget(config.spriteCacheBytes);
+            SpriteCache.shared().setRotationSteps(config.rotationSteps);
+        }
+
+        if (config != null && config.activeRendering) {
+            this.activeCanvas = new ActiveCanvas(this.gameWindow.getPreferredSize(), this.painter,
+                    config.bufferPages);
+            this.canvas = this.activeCanvas;
+        } else {
+            this.activeCanvas = null;
+            this.canvas = new GameCanvas(this.gameWindow.getPreferredSize(), this.painter);
+        }
+
+        // com snapshots, quem desenha deixa de ler os objetos: a thread do
+        // Swing ou, com renderizacao ativa, uma thread de desenho propria
+        if (config != null && config.pipelinedRendering) {
+            this.snapshots = new SnapshotRing();
+
+            if (this.activeCanvas != null) {
+                this.renderThread = new Thread(this::renderLoop, "render");
+                this.renderThread.setDaemon(true);
+            } else {
+                this.renderThread = null;
+                ((GameCanvas) this.canvas).setSnapshots(this.snapshots);
+            }
+        } else {
+            this.snapshots = null;
+            this.renderThread = null;
+        }
+
+        this.presentNanos = 0;
 
         this.canvas.addKeyListener(
                 new KeyAdapter() {
@@ -40,23 +84,47 @@ public class GameUI implements IGameUI {
 
         this.gameWindow.setCanvas(this.canvas);
         this.gameWindow.setTitle(title);
+
+        if (this.renderThread != null) {
+            this.renderThread.start();
+        }
+    }
+
+    /**
+     * Ciclo da thread de desenho: desenha cada snapshot publicado enquanto a
+     * thread do jogo calcula o seguinte.
+     */
+    private void renderLoop() {
+        try {
+            while (true) {
+                RenderSnapshot snapshot = this.snapshots.take();
+
+                this.presentNanos = this.activeCanvas.present(snapshot);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     @Override
     public void showColliders(boolean status) {
-        this.canvas.showColliders(status);
+        this.painter.showColliders(status);
+
+        if (this.snapshots != null) {
+            this.snapshots.captureColliders(status);
+        }
     }
 
     @Override
     public void showColliders(boolean status, int stroke) {
-        this.canvas.showColliders(status);
+        this.showColliders(status);
 
-        this.canvas.setColliderStroke(stroke);
+        this.painter.setColliderStroke(stroke);
     }
 
     @Override
     public void setObjects(List<IGameObject> gol) {
-        this.canvas.setObjects(gol);
+        this.painter.setObjects(gol);
     }
 
     @Override
@@ -71,7 +139,37 @@ public class GameUI implements IGameUI {
 
     @Override
     public void render() {
+        this.render(1.0);
+    }
+
+    @Override
+    public void render(double alpha) {
+        // o snapshot ja foi publicado e a thread de desenho ja o esta a desenhar
+        if (this.renderThread != null) {
+            return;
+        }
+
+        if (this.activeCanvas != null) {
+            this.presentNanos = this.activeCanvas.present(alpha);
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        this.painter.setInterpolation(alpha);
         this.gameWindow.draw();
+
+        this.presentNanos = System.nanoTime() - start;
+    }
+
+    @Override
+    public SnapshotRing snapshots() {
+        return this.snapshots;
+    }
+
+    @Override
+    public long presentNanos() {
+        return this.presentNanos;
     }
 
     @Override
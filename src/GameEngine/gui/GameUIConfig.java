@@ -1,6 +1,24 @@
 package GameEngine.gui;
 
+import GameEngine.gui.loader.SpriteCache;
+
 public class GameUIConfig {
     public boolean focusable = true;
     public boolean requestFocus = true;
+
+    // a thread do jogo desenha e apresenta cada frame numa BufferStrategy em
+    // vez de pedir um repaint ao Swing
+    public boolean activeRendering = false;
+    public int bufferPages = ActiveCanvas.DEFAULT_PAGES;
+
+    // a engine copia o estado de desenho para snapshots e quem desenha so
+    // le os snapshots; com renderizacao ativa o desenho passa para uma
+    // thread propria
+    public boolean pipelinedRendering = false;
+
+    // cache de frames espelhados e rodados; com rotationSteps > 0 os angulos
+    // sao arredondados a 360 / rotationSteps graus e cada passo e rodado uma
+    // so vez
+    public int rotationSteps = 0;
+    public long spriteCacheBytes = SpriteCache.DEFAULT_BUDGET;
 }
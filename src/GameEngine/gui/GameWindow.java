@@ -3,11 +3,14 @@ package GameEngine.gui;
 import GameEngine.exceptions.GameWindowTooSmallException;
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import javax.swing.JFrame;
 
 public class GameWindow extends JFrame {
-    private GameCanvas canvas;
+    private static final long serialVersionUID = 1L;
+
+    private Component canvas;
 
     public GameWindow(int width, int height) throws GameWindowTooSmallException {
         if (width <= 0) {
@@ -27,7 +30,7 @@ public class GameWindow extends JFrame {
         this.setVisible(true);
     }
 
-    public void setCanvas(GameCanvas gc) {
+    public void setCanvas(Component gc) {
         if (canvas != null) {
             this.remove(canvas);
         }
@@ -0,0 +1,272 @@
+package GameEngine.gui;
+
+import GameEngine.core.RenderSnapshot;
+import GameEngine.core.utils.Point;
+import GameEngine.gui.loader.AtlasRegion;
+import GameEngine.gui.loader.SpriteCache;
+import GameEngine.interfaces.IGameObject;
+import GameEngine.interfaces.IShape;
+import GameEngine.interfaces.ITransform;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Desenha a lista de renderização num {@link Graphics2D}, interpolando o
+ * estado de cada objeto entre o tick anterior e o atual.
+ *
+ * <p>
+ * É partilhado pelo {@link GameCanvas}, pintado pela thread do Swing, e pelo
+ * {@link ActiveCanvas}, pintado pela própria thread do jogo. Pode desenhar os
+ * objetos diretamente ou a partir de um {@link RenderSnapshot}, que não
+ * depende do estado atual dos objetos e pode ser desenhado noutra thread.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+class ScenePainter {
+    private List<IGameObject> objects;
+
+    private boolean showColliders;
+    private int colliderStroke;
+
+    private volatile double alpha;
+
+    // reutilizada por todos os objetos, apenas na thread que pinta
+    private final AffineTransform at;
+
+    // transformacao do Graphics2D no inicio de cada pintura
+    private AffineTransform base;
+
+    private final SpriteCache sprites;
+
+    ScenePainter(int colliderStroke) {
+        this.objects = null;
+
+        this.showColliders = false;
+        this.colliderStroke = colliderStroke;
+
+        this.alpha = 1.0;
+
+        this.at = new AffineTransform();
+
+        this.sprites = SpriteCache.shared();
+    }
+
+    void setObjects(List<IGameObject> objects) {
+        this.objects = objects;
+    }
+
+    boolean hasObjects() {
+        return this.objects != null;
+    }
+
+    void setColliderStroke(int stroke) {
+        this.colliderStroke = stroke;
+    }
+
+    void showColliders(boolean status) {
+        this.showColliders = status;
+    }
+
+    void setInterpolation(double alpha) {
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    private static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    /**
+     * Desenha todos os objetos com o fator de interpolação atual.
+     */
+    void paint(Graphics2D g2d) {
+        if (this.objects == null) {
+            return;
+        }
+
+        Stroke stroke = null;
+
+        double alpha = this.alpha;
+
+        this.base = g2d.getTransform();
+
+        if (this.showColliders) {
+            stroke = new BasicStroke(this.colliderStroke);
+        }
+
+        // a engine altera a lista de renderizacao no fim de cada tick, sempre
+        // com o lock da propria lista
+        synchronized (this.objects) {
+            for (int i = 0; i < this.objects.size(); i++) {
+                this.draw(g2d, this.objects.get(i), alpha, stroke);
+            }
+        }
+    }
+
+    /**
+     * Desenha um snapshot com o fator de interpolação que foi capturado com
+     * ele.
+     */
+    void paint(Graphics2D g2d, RenderSnapshot snapshot) {
+        Stroke stroke = null;
+
+        if (this.showColliders) {
+            stroke = new BasicStroke(this.colliderStroke);
+        }
+
+        double alpha = snapshot.alpha();
+
+        this.base = g2d.getTransform();
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            this.draw(g2d, snapshot, i, alpha, stroke);
+        }
+    }
+
+    private void draw(Graphics2D g2d, RenderSnapshot s, int i, double alpha, Stroke stroke) {
+        double m00, m01, m10, m11, posX, posY, angle, scale;
+
+        if (alpha >= 1.0 || !s.moved(i)) {
+            m00 = s.m00(i);
+            m01 = s.m01(i);
+            m10 = s.m10(i);
+            m11 = s.m11(i);
+            posX = s.x(i);
+            posY = s.y(i);
+            angle = s.angle(i);
+            scale = s.scale(i);
+        } else {
+            angle = lerp(s.previousAngle(i), s.angle(i), alpha);
+            scale = lerp(s.previousScale(i), s.scale(i), alpha);
+
+            double rotation = Math.toRadians(angle);
+
+            m00 = m11 = Math.cos(rotation) * scale;
+            m10 = Math.sin(rotation) * scale;
+            m01 = -m10;
+            posX = lerp(s.previousX(i), s.x(i), alpha);
+            posY = lerp(s.previousY(i), s.y(i), alpha);
+        }
+
+        this.drawSprite(g2d, s.image(i), s.region(i), s.mirrored(i), angle, scale, m00, m01, m10, m11,
+                posX + s.offsetX(i), posY + s.offsetY(i));
+
+        if (this.showColliders && s.collider(i) != null) {
+            g2d.setColor(Color.RED);
+            g2d.setStroke(stroke);
+            g2d.draw(s.collider(i));
+        }
+    }
+
+    private void draw(Graphics2D g2d, IGameObject gameObj, double alpha, Stroke stroke) {
+        IShape shape = gameObj.shape();
+        ITransform transform = gameObj.transform();
+
+        double m00, m01, m10, m11, posX, posY, angle, scale;
+
+        Point previous = transform.getPreviousPosition();
+        Point position = transform.getPosition();
+
+        if (alpha >= 1.0 || (previous.getX() == position.getX() && previous.getY() == position.getY()
+                && transform.previousAngle() == transform.angle()
+                && transform.previousScale() == transform.scale())) {
+            // sem interpolacao: a matriz do transform ja esta calculada
+            double[] m = transform.matrix();
+
+            m00 = m[0];
+            m01 = m[1];
+            m10 = m[3];
+            m11 = m[4];
+            posX = m[2];
+            posY = m[5];
+            angle = transform.angle();
+            scale = transform.scale();
+        } else {
+            angle = lerp(transform.previousAngle(), transform.angle(), alpha);
+            scale = lerp(transform.previousScale(), transform.scale(), alpha);
+
+            double rotation = Math.toRadians(angle);
+
+            m00 = m11 = Math.cos(rotation) * scale;
+            m10 = Math.sin(rotation) * scale;
+            m01 = -m10;
+            posX = lerp(previous.getX(), position.getX(), alpha);
+            posY = lerp(previous.getY(), position.getY(), alpha);
+        }
+
+        this.drawSprite(g2d, shape.getFrame(), shape.getRegion(), shape.isMirrored(), angle, scale, m00, m01,
+                m10, m11, posX + shape.getRelativePosition().getX(), posY + shape.getRelativePosition().getY());
+
+        if (this.showColliders) {
+            g2d.setColor(Color.RED);
+            g2d.setStroke(stroke);
+            g2d.draw(gameObj.collider().getShape());
+        }
+    }
+
+    /**
+     * Desenha um frame cujo canto superior esquerdo, antes de rodar e escalar
+     * em torno do centro, fica em {@code (x, y)}. Se o frame for uma região de
+     * uma página ({@code region} não nulo), é desenhado a partir da página.
+     */
+    private void drawSprite(Graphics2D g2d, Image image, AtlasRegion region, boolean mirrored, double angle,
+            double scale, double m00, double m01, double m10, double m11, double x, double y) {
+        double width = image.getWidth(null);
+        double height = image.getHeight(null);
+
+        // centro do frame no ecra
+        double centerX = x + width / 2.0;
+        double centerY = y + height / 2.0;
+
+        // com rotacao quantizada a variante ja vem rodada (e espelhada) da
+        // cache e so falta escalar
+        if (this.sprites.rotationSteps() > 0 && image instanceof BufferedImage frame) {
+            BufferedImage variant = this.sprites.variant(frame, mirrored, this.sprites.step(angle));
+
+            this.at.setTransform(scale, 0, 0, scale,
+                    centerX - scale * variant.getWidth() / 2.0,
+                    centerY - scale * variant.getHeight() / 2.0);
+
+            g2d.drawImage(variant, this.at, null);
+
+            return;
+        }
+
+        double posX = centerX - m00 * width / 2.0 - m01 * height / 2.0;
+        double posY = centerY - m10 * width / 2.0 - m11 * height / 2.0;
+
+        // o espelho e aplicado na propria transformacao, x -> largura - x,
+        // em vez de criar uma imagem espelhada
+        if (mirrored) {
+            posX += m00 * width;
+            posY += m10 * width;
+            m00 = -m00;
+            m10 = -m10;
+        }
+
+        this.at.setTransform(m00, m10, m01, m11, posX, posY);
+
+        // um frame de um atlas e desenhado a partir da propria pagina, para
+        // que todos os frames da pagina partilhem a mesma imagem acelerada
+        if (region != null) {
+            g2d.transform(this.at);
+            g2d.drawImage(region.page(),
+                    0, 0, region.width(), region.height(),
+                    region.x(), region.y(), region.x() + region.width(), region.y() + region.height(),
+                    null);
+            g2d.setTransform(this.base);
+        } else {
+            g2d.drawImage(image, this.at, null);
+        }
+    }
+}
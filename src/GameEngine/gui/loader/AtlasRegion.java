@@ -0,0 +1,92 @@
+package GameEngine.gui.loader;
+
+import java.awt.image.BufferedImage;
+import java.util.WeakHashMap;
+
+/**
+ * Região retangular de uma imagem maior (uma página de um
+ * {@link TextureAtlas} ou uma sprite sheet) usada como frame.
+ *
+ * <p>
+ * O frame entregue ao resto da engine é uma subimagem da página, que partilha
+ * os seus pixeis e se comporta como qualquer outra {@link BufferedImage}. A
+ * região de cada frame fica registada, para que quem desenha possa desenhar
+ * diretamente a parte certa da página com {@link #of(BufferedImage)}: todos os
+ * frames de uma página usam então a mesma imagem, e a mesma cópia em memória
+ * de vídeo. O registo não impede que frames já sem uso sejam recolhidos.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public final class AtlasRegion {
+    private static final WeakHashMap<BufferedImage, AtlasRegion> REGIONS = new WeakHashMap<>();
+
+    private final BufferedImage page;
+    private final int x, y, width, height;
+
+    private AtlasRegion(BufferedImage page, int x, int y, int width, int height) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Recorta um frame de uma página e regista a sua região.
+     *
+     * @param page   Página ou sprite sheet.
+     * @param x      Canto esquerdo da região.
+     * @param y      Canto superior da região.
+     * @param width  Largura da região.
+     * @param height Altura da região.
+     * @return O frame, uma subimagem da página.
+     */
+    public static BufferedImage cut(BufferedImage page, int x, int y, int width, int height) {
+        BufferedImage frame = page.getSubimage(x, y, width, height);
+
+        synchronized (REGIONS) {
+            REGIONS.put(frame, new AtlasRegion(page, x, y, width, height));
+        }
+
+        return frame;
+    }
+
+    /**
+     * Região de um frame recortado com {@link #cut(BufferedImage, int, int,
+     * int, int)}.
+     *
+     * @param frame Frame a procurar.
+     * @return A região do frame, ou {@code null} se o frame não pertencer a
+     *         nenhuma página.
+     */
+    public static AtlasRegion of(BufferedImage frame) {
+        synchronized (REGIONS) {
+            return REGIONS.get(frame);
+        }
+    }
+
+    public BufferedImage page() {
+        return this.page;
+    }
+
+    public int x() {
+        return this.x;
+    }
+
+    public int y() {
+        return this.y;
+    }
+
+    public int width() {
+        return this.width;
+    }
+
+    public int height() {
+        return this.height;
+    }
+}
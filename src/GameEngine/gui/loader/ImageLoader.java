@@ -53,6 +53,37 @@ public class ImageLoader {
         return images;
     }
 
+    /**
+     * Lê uma sprite sheet com os frames dispostos numa grelha, da esquerda
+     * para a direita e de cima para baixo. Os frames são regiões da própria
+     * sheet ({@link AtlasRegion}), sem cópia dos pixeis.
+     *
+     * @param path    Caminho da imagem.
+     * @param columns Número de colunas da grelha.
+     * @param rows    Número de linhas da grelha.
+     * @param count   Número de frames a ler; {@code <= 0} para ler a grelha
+     *                toda.
+     * @return Os frames, ou uma lista vazia se a imagem não existir.
+     */
+    public static List<BufferedImage> loadSheet(String path, int columns, int rows, int count) {
+        List<BufferedImage> frames = new ArrayList<>();
+        BufferedImage sheet = ImageLoader.loadImage(path);
+
+        if (sheet == null || columns <= 0 || rows <= 0) {
+            return frames;
+        }
+
+        int width = sheet.getWidth() / columns;
+        int height = sheet.getHeight() / rows;
+        int total = count > 0 ? Math.min(count, columns * rows) : columns * rows;
+
+        for (int i = 0; i < total; i++) {
+            frames.add(AtlasRegion.cut(sheet, (i % columns) * width, (i / columns) * height, width, height));
+        }
+
+        return frames;
+    }
+
     public static BufferedImage resize(BufferedImage image, int width, int height) {
         if (image == null) {
             return null;
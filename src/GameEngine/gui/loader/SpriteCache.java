@@ -0,0 +1,323 @@
+package GameEngine.gui.loader;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+
+/**
+ * Cache de variantes de sprites: frames espelhados e rodados para um ângulo
+ * quantizado.
+ *
+ * <p>
+ * Cada variante é identificada pelo frame original (por identidade), pelo
+ * espelho e pelo passo de rotação, e é gerada uma única vez. As variantes
+ * formam uma lista LRU; quando a memória ocupada (4 bytes por pixel) passa do
+ * orçamento, as menos usadas são descartadas e serão geradas de novo se
+ * voltarem a ser pedidas. A procura não cria objetos: o frame indexa uma
+ * tabela de identidade e o espelho e o passo indexam um array.
+ * </p>
+ *
+ * <p>
+ * Com {@code n} passos de rotação, um ângulo é arredondado para o múltiplo de
+ * {@code 360 / n} graus mais próximo, e a variante já rodada é desenhada só
+ * com escala e translação. Com {@code 0} passos (por omissão) não há
+ * quantização e a cache guarda apenas frames espelhados.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class SpriteCache {
+    /**
+     * Orçamento por omissão, em bytes.
+     */
+    public static final long DEFAULT_BUDGET = 64L << 20;
+
+    private static final SpriteCache SHARED = new SpriteCache(DEFAULT_BUDGET);
+
+    /**
+     * Uma variante de um frame, ligada na lista LRU.
+     */
+    private static final class Variant {
+        private final Variants owner;
+        private final int index;
+        private final BufferedImage image;
+        private final long bytes;
+        private Variant newer, older;
+
+        private Variant(Variants owner, int index, BufferedImage image) {
+            this.owner = owner;
+            this.index = index;
+            this.image = image;
+            this.bytes = 4L * image.getWidth() * image.getHeight();
+        }
+    }
+
+    /**
+     * Variantes de um frame, indexadas por {@code passo * 2 + espelho}.
+     */
+    private static final class Variants {
+        private final BufferedImage source;
+        private final Variant[] slots;
+        private int count;
+
+        private Variants(BufferedImage source, int steps) {
+            this.source = source;
+            this.slots = new Variant[2 * Math.max(1, steps)];
+            this.count = 0;
+        }
+    }
+
+    private final IdentityHashMap<BufferedImage, Variants> frames;
+
+    // extremos da lista LRU
+    private Variant newest, oldest;
+
+    private long budget;
+    private long bytes;
+    private int steps;
+
+    private long hits, misses, evictions;
+
+    public SpriteCache(long budget) {
+        this.frames = new IdentityHashMap<>();
+        this.newest = null;
+        this.oldest = null;
+        this.budget = budget;
+        this.bytes = 0;
+        this.steps = 0;
+    }
+
+    /**
+     * Cache partilhada pelas formas e pela interface gráfica.
+     *
+     * @return A cache partilhada.
+     */
+    public static SpriteCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Define a memória máxima ocupada pelas variantes, descartando as menos
+     * usadas se já a ultrapassarem.
+     *
+     * @param budget Orçamento, em bytes.
+     */
+    public synchronized void setBudget(long budget) {
+        this.budget = Math.max(0, budget);
+        this.evict(null);
+    }
+
+    /**
+     * Define em quantos passos é dividida uma volta completa. Mudar o número de
+     * passos descarta todas as variantes.
+     *
+     * @param steps Número de passos, ou {@code 0} para não quantizar a
+     *              rotação.
+     */
+    public synchronized void setRotationSteps(int steps) {
+        steps = Math.max(0, steps);
+
+        if (steps == this.steps) {
+            return;
+        }
+
+        this.steps = steps;
+        this.clear();
+    }
+
+    public synchronized int rotationSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Passo de rotação mais próximo de um ângulo.
+     *
+     * @param angle Ângulo, em graus.
+     * @return O passo, em {@code [0, rotationSteps())}, ou {@code 0} se a
+     *         rotação não for quantizada.
+     */
+    public synchronized int step(double angle) {
+        if (this.steps == 0) {
+            return 0;
+        }
+
+        int step = (int) Math.round(angle * this.steps / 360.0) % this.steps;
+
+        return step < 0 ? step + this.steps : step;
+    }
+
+    /**
+     * Frame espelhado na horizontal.
+     *
+     * @param frame Frame original.
+     * @return A variante espelhada, gerada apenas na primeira vez.
+     */
+    public BufferedImage mirrored(BufferedImage frame) {
+        return this.variant(frame, true, 0);
+    }
+
+    /**
+     * Variante de um frame, espelhada e rodada para um passo de rotação. A
+     * variante rodada tem o mesmo centro que o frame original e o tamanho da
+     * caixa que contém o frame rodado.
+     *
+     * @param frame    Frame original.
+     * @param mirrored {@code true} para espelhar o frame antes de o rodar.
+     * @param step     Passo de rotação, devolvido por {@link #step(double)}.
+     * @return A variante; o próprio frame se não houver nada a alterar.
+     */
+    public synchronized BufferedImage variant(BufferedImage frame, boolean mirrored, int step) {
+        // um passo calculado antes de o numero de passos mudar
+        step = this.steps == 0 ? 0 : Math.floorMod(step, this.steps);
+
+        if (!mirrored && step == 0) {
+            return frame;
+        }
+
+        Variants variants = this.frames.get(frame);
+
+        if (variants == null) {
+            variants = new Variants(frame, this.steps);
+            this.frames.put(frame, variants);
+        }
+
+        int index = step * 2 + (mirrored ? 1 : 0);
+        Variant v = variants.slots[index];
+
+        if (v != null) {
+            this.hits++;
+            this.unlink(v);
+            this.pushNewest(v);
+
+            return v.image;
+        }
+
+        this.misses++;
+
+        v = new Variant(variants, index, render(frame, mirrored, this.steps == 0 ? 0 : 360.0 * step / this.steps));
+        variants.slots[index] = v;
+        variants.count++;
+        this.bytes += v.bytes;
+        this.pushNewest(v);
+
+        this.evict(v);
+
+        return v.image;
+    }
+
+    /**
+     * Descarta todas as variantes.
+     */
+    public synchronized void clear() {
+        this.frames.clear();
+        this.newest = null;
+        this.oldest = null;
+        this.bytes = 0;
+    }
+
+    public synchronized long bytes() {
+        return this.bytes;
+    }
+
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Descarta as variantes menos usadas até caber no orçamento, sem
+     * descartar {@code keep}.
+     */
+    private void evict(Variant keep) {
+        while (this.bytes > this.budget && this.oldest != null && this.oldest != keep) {
+            Variant v = this.oldest;
+
+            this.unlink(v);
+            this.bytes -= v.bytes;
+            this.evictions++;
+
+            v.owner.slots[v.index] = null;
+
+            if (--v.owner.count == 0) {
+                this.frames.remove(v.owner.source);
+            }
+        }
+    }
+
+    private void pushNewest(Variant v) {
+        v.older = this.newest;
+        v.newer = null;
+
+        if (this.newest != null) {
+            this.newest.newer = v;
+        } else {
+            this.oldest = v;
+        }
+
+        this.newest = v;
+    }
+
+    private void unlink(Variant v) {
+        if (v.newer != null) {
+            v.newer.older = v.older;
+        } else {
+            this.newest = v.older;
+        }
+
+        if (v.older != null) {
+            v.older.newer = v.newer;
+        } else {
+            this.oldest = v.newer;
+        }
+
+        v.newer = null;
+        v.older = null;
+    }
+
+    private static BufferedImage render(BufferedImage frame, boolean mirrored, double angle) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+
+        double rads = Math.toRadians(angle);
+        double cos = Math.abs(Math.cos(rads));
+        double sin = Math.abs(Math.sin(rads));
+
+        int rotatedWidth = Math.max(1, (int) Math.ceil(width * cos + height * sin - 1e-9));
+        int rotatedHeight = Math.max(1, (int) Math.ceil(width * sin + height * cos - 1e-9));
+
+        BufferedImage variant = new BufferedImage(rotatedWidth, rotatedHeight, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = variant.createGraphics();
+
+        if (angle != 0) {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+
+        // roda em torno do centro; o espelho e aplicado antes da rotacao
+        g2d.translate(rotatedWidth / 2.0, rotatedHeight / 2.0);
+        g2d.rotate(rads);
+        g2d.translate(-width / 2.0, -height / 2.0);
+
+        if (mirrored) {
+            g2d.translate(width, 0);
+            g2d.scale(-1, 1);
+        }
+
+        g2d.drawImage(frame, 0, 0, null);
+        g2d.dispose();
+
+        return variant;
+    }
+}
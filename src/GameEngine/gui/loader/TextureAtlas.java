@@ -0,0 +1,265 @@
+package GameEngine.gui.loader;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Junta, no carregamento, muitos frames pequenos em poucas páginas grandes.
+ *
+ * <p>
+ * Cada página é arrumada com o algoritmo skyline: guarda-se o contorno
+ * superior da parte já ocupada como uma sequência de segmentos horizontais, e
+ * cada frame é posto no ponto mais baixo (e, em caso de empate, mais à
+ * esquerda) onde cabe por cima desse contorno. Quando um frame não cabe em
+ * nenhuma página, é aberta uma página nova. Os frames ficam separados por uma
+ * margem transparente, para que a filtragem ao escalar não misture pixeis de
+ * frames vizinhos.
+ * </p>
+ *
+ * <p>
+ * Os frames devolvidos são regiões das páginas ({@link AtlasRegion}), pelo
+ * que podem ser usados em qualquer sítio onde se usava a imagem original.
+ * Frames maiores do que uma página são devolvidos tal como estão.
+ * </p>
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public class TextureAtlas {
+    /**
+     * Lado de cada página por omissão, em pixeis.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    /**
+     * Contorno superior de uma página: o segmento {@code i} começa em
+     * {@code xs[i]}, tem largura {@code widths[i]} e está ocupado até
+     * {@code ys[i]}.
+     */
+    private static final class Page {
+        private final BufferedImage image;
+        private int[] xs, ys, widths;
+        private int count;
+
+        // resultado da ultima procura
+        private int foundX, foundY;
+
+        private Page(int size) {
+            this.image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            this.xs = new int[8];
+            this.ys = new int[8];
+            this.widths = new int[8];
+            this.widths[0] = size;
+            this.count = 1;
+        }
+
+        /**
+         * Procura o ponto mais baixo onde cabe um retângulo.
+         *
+         * @return O índice do segmento onde o retângulo começa, ou {@code -1}.
+         */
+        private int find(int width, int height) {
+            int size = this.image.getWidth();
+            int best = -1;
+            int bestY = Integer.MAX_VALUE, bestX = Integer.MAX_VALUE;
+
+            for (int i = 0; i < this.count; i++) {
+                int x = this.xs[i];
+
+                if (x + width > size) {
+                    break;
+                }
+
+                // o retangulo assenta no segmento mais alto que cobre
+                int y = 0;
+
+                for (int j = i, left = width; left > 0; j++) {
+                    y = Math.max(y, this.ys[j]);
+                    left -= this.widths[j];
+                }
+
+                if (y + height <= size && (y < bestY || (y == bestY && x < bestX))) {
+                    best = i;
+                    bestY = y;
+                    bestX = x;
+                }
+            }
+
+            this.foundX = bestX;
+            this.foundY = bestY;
+
+            return best;
+        }
+
+        /**
+         * Ocupa {@code [x, x + width)} até {@code top}, a partir do segmento
+         * {@code i}.
+         */
+        private void place(int i, int width, int top) {
+            int x = this.xs[i];
+            int end = x + width;
+
+            // segmentos totalmente tapados pelo novo
+            int j = i;
+
+            while (j < this.count && this.xs[j] + this.widths[j] <= end) {
+                j++;
+            }
+
+            // o segmento j pode ficar parcialmente tapado
+            if (j < this.count && this.xs[j] < end) {
+                this.widths[j] -= end - this.xs[j];
+                this.xs[j] = end;
+            }
+
+            // troca os segmentos [i, j) por um so
+            int removed = j - i;
+
+            if (removed == 0) {
+                this.grow();
+                System.arraycopy(this.xs, i, this.xs, i + 1, this.count - i);
+                System.arraycopy(this.ys, i, this.ys, i + 1, this.count - i);
+                System.arraycopy(this.widths, i, this.widths, i + 1, this.count - i);
+                this.count++;
+            } else if (removed > 1) {
+                System.arraycopy(this.xs, j, this.xs, i + 1, this.count - j);
+                System.arraycopy(this.ys, j, this.ys, i + 1, this.count - j);
+                System.arraycopy(this.widths, j, this.widths, i + 1, this.count - j);
+                this.count -= removed - 1;
+            }
+
+            this.xs[i] = x;
+            this.ys[i] = top;
+            this.widths[i] = width;
+
+            this.merge();
+        }
+
+        /**
+         * Junta segmentos vizinhos com a mesma altura.
+         */
+        private void merge() {
+            int k = 0;
+
+            for (int i = 1; i < this.count; i++) {
+                if (this.ys[i] == this.ys[k]) {
+                    this.widths[k] += this.widths[i];
+                } else {
+                    k++;
+                    this.xs[k] = this.xs[i];
+                    this.ys[k] = this.ys[i];
+                    this.widths[k] = this.widths[i];
+                }
+            }
+
+            this.count = k + 1;
+        }
+
+        private void grow() {
+            if (this.count == this.xs.length) {
+                this.xs = Arrays.copyOf(this.xs, this.count * 2);
+                this.ys = Arrays.copyOf(this.ys, this.count * 2);
+                this.widths = Arrays.copyOf(this.widths, this.count * 2);
+            }
+        }
+    }
+
+    private final int pageSize;
+    private final int padding;
+    private final ArrayList<Page> pages;
+
+    public TextureAtlas() {
+        this(DEFAULT_PAGE_SIZE, 1);
+    }
+
+    /**
+     * Cria um atlas vazio.
+     *
+     * @param pageSize Lado de cada página, em pixeis.
+     * @param padding  Margem transparente à volta de cada frame, em pixeis.
+     */
+    public TextureAtlas(int pageSize, int padding) {
+        this.pageSize = pageSize;
+        this.padding = Math.max(0, padding);
+        this.pages = new ArrayList<>();
+    }
+
+    /**
+     * Copia um frame para o atlas.
+     *
+     * @param frame Frame a juntar.
+     * @return A região do atlas com o frame, ou o próprio frame se for maior
+     *         do que uma página.
+     */
+    public BufferedImage add(BufferedImage frame) {
+        int width = frame.getWidth() + 2 * this.padding;
+        int height = frame.getHeight() + 2 * this.padding;
+
+        if (width > this.pageSize || height > this.pageSize) {
+            return frame;
+        }
+
+        Page page = null;
+        int segment = -1;
+
+        for (int p = 0; p < this.pages.size() && segment < 0; p++) {
+            page = this.pages.get(p);
+            segment = page.find(width, height);
+        }
+
+        if (segment < 0) {
+            page = new Page(this.pageSize);
+            this.pages.add(page);
+            segment = page.find(width, height);
+        }
+
+        int x = page.foundX, y = page.foundY;
+
+        page.place(segment, width, y + height);
+
+        int[] pixels = frame.getRGB(0, 0, frame.getWidth(), frame.getHeight(), null, 0, frame.getWidth());
+
+        page.image.setRGB(x + this.padding, y + this.padding, frame.getWidth(), frame.getHeight(),
+                pixels, 0, frame.getWidth());
+
+        return AtlasRegion.cut(page.image, x + this.padding, y + this.padding, frame.getWidth(), frame.getHeight());
+    }
+
+    /**
+     * Copia vários frames para o atlas. Os frames são arrumados do mais alto
+     * para o mais baixo, o que deixa menos espaço perdido, mas são devolvidos
+     * pela ordem original.
+     *
+     * @param frames Frames a juntar.
+     * @return As regiões do atlas, pela ordem de {@code frames}.
+     */
+    public List<BufferedImage> addAll(List<BufferedImage> frames) {
+        Integer[] order = new Integer[frames.size()];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> frames.get(b).getHeight() - frames.get(a).getHeight());
+
+        BufferedImage[] packed = new BufferedImage[order.length];
+
+        for (int i : order) {
+            packed[i] = this.add(frames.get(i));
+        }
+
+        return new ArrayList<>(Arrays.asList(packed));
+    }
+
+    /**
+     * Número de páginas usadas.
+     */
+    public int pages() {
+        return this.pages.size();
+    }
+}
@@ -63,9 +63,42 @@ public interface IBehaviour {
     public void onDestroy();
 
     /**
-     * Método chamado quando o objeto associado colide com outros objetos.
+     * Método chamado em cada tick em que o objeto associado está em contacto
+     * com outros objetos.
+     * 
+     * <p>
+     * A lista é mantida pela engine e reutilizada entre ticks (só muda quando
+     * um contacto começa ou acaba), pelo que não deve ser guardada. Não pode
+     * ser alterada: tentar fazê-lo lança
+     * {@link UnsupportedOperationException}.
+     * </p>
      * 
      * @param go Lista de objetos com os quais houve colisão.
      */
     public void onCollision(List<IGameObject> go);
+
+    /**
+     * Método chamado no primeiro tick em que o objeto associado entra em
+     * contacto com outro objeto.
+     * 
+     * @param other Objeto com o qual começou o contacto.
+     */
+    public void onCollisionEnter(IGameObject other);
+
+    /**
+     * Método chamado em cada tick seguinte em que o contacto com outro objeto
+     * se mantém.
+     * 
+     * @param other Objeto com o qual o contacto se mantém.
+     */
+    public void onCollisionStay(IGameObject other);
+
+    /**
+     * Método chamado quando o contacto com outro objeto acaba, seja porque os
+     * objetos se afastaram, seja porque o outro objeto foi desativado ou
+     * removido.
+     * 
+     * @param other Objeto com o qual acabou o contacto.
+     */
+    public void onCollisionExit(IGameObject other);
 }
@@ -0,0 +1,69 @@
+package GameEngine.interfaces;
+
+import GameEngine.core.LayerMatrix;
+import GameEngine.core.broadphase.PairList;
+
+/**
+ * Interface que define uma estratégia de broadphase, isto é, a fase da deteção
+ * de colisões que escolhe quais os pares de objetos que merecem um teste exato
+ * (narrowphase).
+ *
+ * <p>
+ * A engine informa a broadphase sempre que um objeto passa a estar ativo ou
+ * deixa de estar, e em cada tick pede-lhe os pares candidatos. Todas as
+ * implementações escrevem os pares no mesmo formato ({@link PairList}), que é
+ * depois consumido pela narrowphase.
+ * </p>
+ *
+ * <p>
+ * A melhor estratégia depende da cena: uma grelha espacial funciona bem com
+ * objetos de tamanho semelhante espalhados pelo mundo, enquanto o
+ * sweep-and-prune tira partido de cenas densas em que os objetos quase não se
+ * movem entre ticks.
+ * </p>
+ *
+ * @see GameEngine.core.broadphase.BruteForceBroadphase
+ * @see GameEngine.core.broadphase.SpatialHashBroadphase
+ * @see GameEngine.core.broadphase.SweepAndPruneBroadphase
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public interface IBroadphase {
+
+    /**
+     * Passa a considerar um objeto na geração de pares. Objetos sem collider
+     * devem ser ignorados.
+     *
+     * @param go Objeto a inserir.
+     */
+    public void add(IGameObject go);
+
+    /**
+     * Deixa de considerar um objeto na geração de pares.
+     *
+     * @param go Objeto a remover.
+     */
+    public void remove(IGameObject go);
+
+    /**
+     * Define a matriz de colisão entre camadas. Pares de objetos cujas camadas
+     * não colidem nunca devem ser gerados, e objetos em camadas que não colidem
+     * com nenhuma outra devem ser ignorados.
+     *
+     * @param matrix Matriz de colisão entre camadas.
+     */
+    public void setLayerMatrix(LayerMatrix matrix);
+
+    /**
+     * Preenche a lista com os pares candidatos a colisão do tick atual. A lista
+     * é limpa antes de ser preenchida. Deve ser chamado depois de os colliders
+     * terem sido atualizados.
+     *
+     * @param pairs Lista onde os pares são escritos.
+     */
+    public void findPairs(PairList pairs);
+}
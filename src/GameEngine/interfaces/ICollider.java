@@ -5,7 +5,6 @@ import java.awt.Shape;
 import GameEngine.core.CollCircle;
 import GameEngine.core.CollPoly;
 import GameEngine.core.utils.Point;
-import GameEngine.core.utils.Vector;
 
 /**
  * Interface que representa um componente de colisão utilizado para deteção de
@@ -39,48 +38,16 @@ public interface ICollider {
      */
     public Point centroid();
 
-    /**
-     * Aplica uma translação à forma do collider.
-     * 
-     * <p>
-     * Este método deve mover a forma do collider de acordo com o vetor fornecido,
-     * alterando a posição da forma.
-     * </p>
-     * 
-     * @param v O vetor de translação que será aplicado à forma do collider.
-     */
-    public void translation(Vector v);
-
-    /**
-     * Aplica uma rotação à forma do collider.
-     * 
-     * <p>
-     * Este método deve rotacionar a forma do collider pelo ângulo fornecido.
-     * A rotação será realizada em torno do centroide da forma.
-     * </p>
-     * 
-     * @param angle O ângulo, em graus, pelo qual a forma será rotacionada.
-     */
-    public void rotate(double angle);
-
-    /**
-     * Aplica uma escala à forma do collider.
-     * 
-     * <p>
-     * Este método deve alterar o tamanho da forma do collider, escalando-a
-     * pelo fator fornecido.
-     * </p>
-     * 
-     * @param scale O fator de escala a ser aplicado à forma do collider.
-     */
-    public void scale(double scale);
-
     /**
      * Atualiza o estado interno do collider com base na transformação associada
      * (como posição, rotação ou escala).
      * 
      * <p>
      * Deve ser chamado sempre que o {@code ITransform} associado for alterado.
+     * A forma do collider é guardada em coordenadas locais e colocada no mundo
+     * com a matriz de {@link ITransform#matrix()}, com o centroide na posição
+     * do {@code ITransform}. Se a {@link ITransform#version()} não tiver
+     * mudado desde a última chamada, nada é recalculado.
      * </p>
      */
     public void onUpdate();
@@ -112,6 +79,70 @@ public interface ICollider {
      */
     public boolean isColliding(CollPoly other);
 
+    /**
+     * Retorna o menor {@code x} da caixa envolvente (alinhada com os eixos)
+     * deste collider.
+     *
+     * <p>
+     * Os limites são calculados na construção e em cada {@link #onUpdate()}.
+     * </p>
+     *
+     * @return Limite esquerdo da caixa envolvente.
+     */
+    public double minX();
+
+    /**
+     * Retorna o menor {@code y} da caixa envolvente deste collider.
+     *
+     * @return Limite superior da caixa envolvente.
+     */
+    public double minY();
+
+    /**
+     * Retorna o maior {@code x} da caixa envolvente deste collider.
+     *
+     * @return Limite direito da caixa envolvente.
+     */
+    public double maxX();
+
+    /**
+     * Retorna o maior {@code y} da caixa envolvente deste collider.
+     *
+     * @return Limite inferior da caixa envolvente.
+     */
+    public double maxY();
+
+    /**
+     * Retorna o raio do círculo envolvente deste collider, centrado no
+     * centroide. Tal como a caixa envolvente, é calculado em
+     * {@link #onUpdate()}.
+     *
+     * @return Raio do círculo envolvente.
+     */
+    public double boundingRadius();
+
+    /**
+     * Ativa ou desativa a deteção contínua de colisões para este collider.
+     *
+     * <p>
+     * Um collider contínuo é varrido entre a pose do início e a do fim de cada
+     * tick; se tocar noutro collider pelo caminho, o objeto é recuado até ao
+     * instante de impacto. Evita que objetos rápidos atravessem colliders finos,
+     * a troco de um teste extra por tick contra os colliders próximos do
+     * caminho.
+     * </p>
+     *
+     * @param continuous {@code true} para ativar a deteção contínua.
+     */
+    public void setContinuous(boolean continuous);
+
+    /**
+     * Verifica se este collider usa deteção contínua de colisões.
+     *
+     * @return {@code true} se a deteção contínua estiver ativa.
+     */
+    public boolean isContinuous();
+
     /**
      * Retorna a forma geométrica que representa graficamente este collider.
      * 
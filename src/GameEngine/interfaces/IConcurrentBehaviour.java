@@ -0,0 +1,47 @@
+package GameEngine.interfaces;
+
+/**
+ * Interface de marcação para comportamentos cujo {@code onUpdate} pode correr
+ * em paralelo com o de outros objetos.
+ *
+ * <p>
+ * Em cada tick a engine atualiza primeiro, repartidos por várias threads, os
+ * objetos cujo comportamento implementa esta interface, e só depois, na
+ * thread do jogo e pela ordem habitual, os restantes. Um comportamento
+ * concorrente só pode ler e alterar o seu próprio objeto (transform, corpo
+ * rígido, animação) e o seu próprio estado; não deve ler nem alterar outros
+ * objetos, nem o pool de prefabs, que podem estar a ser atualizados ao mesmo
+ * tempo noutra thread.
+ * </p>
+ *
+ * <p>
+ * Os pedidos à engine feitos durante a atualização paralela (adicionar,
+ * ativar, desativar e destruir objetos) são guardados num buffer por thread;
+ * efeitos noutros objetos, como mover outro objeto ou pedir um objeto a um
+ * prefab, devem ser pedidos com {@link IGameEngine#defer(Runnable)}. Quando
+ * todos os comportamentos concorrentes terminam, os buffers são repetidos na
+ * thread do jogo pela ordem dos objetos, pelo que o resultado não depende da
+ * ordem em que as threads terminam.
+ * </p>
+ *
+ * <p>
+ * As consultas espaciais ({@link IGameEngine#raycast}, {@link
+ * IGameEngine#overlapCircle}, {@link IGameEngine#overlapBox} e {@link
+ * IGameEngine#nearest}) podem ser feitas durante a atualização paralela, por
+ * exemplo para procurar o jogador mais próximo: cada thread usa o seu próprio
+ * estado de consulta e a árvore só é atualizada depois das colisões. Os
+ * objetos encontrados estão registados na posição do fim do tick anterior; só
+ * é seguro ler o estado de um deles se o seu comportamento não for
+ * concorrente.
+ * </p>
+ *
+ * @see IGameEngine#defer(Runnable)
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public interface IConcurrentBehaviour extends IBehaviour {
+}
@@ -1,5 +1,10 @@
 package GameEngine.interfaces;
 
+import GameEngine.core.PrefabPool;
+import GameEngine.core.RaycastHit;
+import GameEngine.core.WorldStore;
+import GameEngine.core.physics.PhysicsWorld;
+
 import java.util.List;
 
 /**
@@ -20,6 +25,13 @@ import java.util.List;
  */
 public interface IGameEngine {
 
+    /*
+     * Os pedidos de alteração estrutural (adicionar, ativar, desativar,
+     * destruir) feitos durante um tick ficam em espera e só são aplicados no fim
+     * desse tick, depois de todas as atualizações e colisões. Fora de um tick
+     * são aplicados de imediato.
+     */
+
     /**
      * Adiciona um {@link IGameObject} diretamente ao conjunto de objetos ativos
      * (que serão atualizados e renderizados pela engine).
@@ -116,4 +128,170 @@ public interface IGameEngine {
      * @param deltaTime Tempo em milissegundos entre frames.
      */
     public void setDelta(long deltaTime);
+
+    /**
+     * Liga ou desliga as colisões entre duas camadas.
+     *
+     * <p>
+     * Por omissão cada camada só colide consigo própria. Os pares de objetos
+     * cujas camadas não colidem nunca são gerados, e objetos em camadas que não
+     * colidem com nenhuma outra (cenário, HUD) ficam fora da deteção de
+     * colisões.
+     * </p>
+     *
+     * @param layerA  Primeira camada.
+     * @param layerB  Segunda camada (pode ser igual à primeira).
+     * @param collide {@code true} para as camadas colidirem.
+     */
+    public void setLayerCollision(int layerA, int layerB, boolean collide);
+
+    /**
+     * Retorna o mundo físico da engine, que move e separa os objetos com corpo
+     * rígido ({@link IGameObject#rigidBody()}). Permite configurar, por
+     * exemplo, a gravidade e o número de iterações do solver.
+     *
+     * @return O mundo físico.
+     */
+    public PhysicsWorld physics();
+
+    /**
+     * Retorna o armazenamento em estrutura de arrays da engine. Os transforms
+     * e polígonos criados através dele guardam o seu estado em arrays
+     * contíguos, que a engine atualiza em bloco em cada tick, e o seu espaço
+     * é devolvido quando o objeto é destruído (a menos que volte ao pool de
+     * prefabs); os restantes objetos continuam a funcionar da mesma forma.
+     *
+     * @return O armazenamento partilhado dos transforms e vértices.
+     */
+    public WorldStore world();
+
+    /**
+     * Adia uma ação para depois do código que está a correr.
+     *
+     * <p>
+     * Chamado por um comportamento concorrente ({@link IConcurrentBehaviour})
+     * durante a atualização paralela, a ação é executada na thread do jogo
+     * quando todas as atualizações paralelas terminam, pela ordem dos objetos;
+     * é a forma de um comportamento concorrente mexer noutros objetos. Noutros
+     * momentos de um tick é executada no fim do tick, junto com os restantes
+     * pedidos, e fora de um tick é executada de imediato.
+     * </p>
+     *
+     * @param action Ação a executar.
+     */
+    public void defer(Runnable action);
+
+    /**
+     * Retorna o pool de objetos da engine. Os objetos entregues por ele a
+     * partir de um {@link IPrefab} voltam ao pool quando são destruídos, em vez
+     * de serem recriados a cada utilização.
+     *
+     * @return O pool de objetos por prefab.
+     */
+    public PrefabPool prefabs();
+
+    /*
+     * As consultas espaciais usam uma árvore de caixas envolventes mantida pela
+     * engine a partir dos colliders dos objetos ativos, atualizada no fim de
+     * cada tick (antes dos eventos de colisão). Durante o onUpdate, objetos que
+     * já se moveram nesse tick podem ainda estar registados na posição do tick
+     * anterior. As máscaras de camadas são formadas com LayerMatrix.bit(layer);
+     * LayerMatrix.ALL_LAYERS aceita todas. Os resultados são escritos em
+     * buffers fornecidos por quem pergunta, para que as consultas não criem
+     * objetos. A árvore não muda durante a atualização paralela, pelo que as
+     * consultas podem ser feitas por comportamentos concorrentes
+     * (IConcurrentBehaviour), em várias threads ao mesmo tempo.
+     */
+
+    /**
+     * Lança um raio e encontra o primeiro collider que ele atinge, por exemplo
+     * para testar linha de vista.
+     *
+     * @param ox          Abcissa da origem do raio.
+     * @param oy          Ordenada da origem do raio.
+     * @param dx          Abcissa da direção do raio (não precisa de ser
+     *                    unitária).
+     * @param dy          Ordenada da direção do raio.
+     * @param maxDistance Alcance do raio.
+     * @param layerMask   Camadas que o raio pode atingir.
+     * @param hit         Resultado, preenchido apenas se o raio acertar.
+     * @return {@code true} se o raio atingiu algum collider.
+     */
+    public boolean raycast(double ox, double oy, double dx, double dy, double maxDistance, long layerMask,
+            RaycastHit hit);
+
+    /**
+     * Encontra os objetos cujo collider toca num círculo, por exemplo para
+     * dano em área.
+     *
+     * @param x         Abcissa do centro do círculo.
+     * @param y         Ordenada do centro do círculo.
+     * @param radius    Raio do círculo.
+     * @param layerMask Camadas a considerar.
+     * @param results   Buffer onde são escritos os objetos encontrados.
+     * @return Número de objetos escritos em {@code results}; a procura pára
+     *         quando o buffer enche.
+     */
+    public int overlapCircle(double x, double y, double radius, long layerMask, IGameObject[] results);
+
+    /**
+     * Encontra os objetos cujo collider toca numa caixa alinhada com os eixos.
+     *
+     * @param minX      Menor abcissa da caixa.
+     * @param minY      Menor ordenada da caixa.
+     * @param maxX      Maior abcissa da caixa.
+     * @param maxY      Maior ordenada da caixa.
+     * @param layerMask Camadas a considerar.
+     * @param results   Buffer onde são escritos os objetos encontrados.
+     * @return Número de objetos escritos em {@code results}; a procura pára
+     *         quando o buffer enche.
+     */
+    public int overlapBox(double minX, double minY, double maxX, double maxY, long layerMask,
+            IGameObject[] results);
+
+    /**
+     * Encontra o objeto cujo collider está mais perto de um ponto.
+     *
+     * @param x           Abcissa do ponto.
+     * @param y           Ordenada do ponto.
+     * @param maxDistance Distância máxima a procurar.
+     * @param layerMask   Camadas a considerar.
+     * @param exclude     Objeto a ignorar (normalmente quem pergunta), ou
+     *                    {@code null}.
+     * @return O objeto mais próximo, ou {@code null} se nenhum estiver a menos
+     *         de {@code maxDistance}.
+     */
+    public IGameObject nearest(double x, double y, double maxDistance, long layerMask, IGameObject exclude);
+
+    /**
+     * Ativa o modo de passo fixo da engine.
+     *
+     * <p>
+     * Neste modo a simulação avança sempre em ticks de {@code stepMillis}
+     * milissegundos, medidos com {@link System#nanoTime()}. Em cada frame
+     * renderizado são executados tantos ticks quantos couberem no tempo
+     * acumulado, até um máximo de {@code maxCatchUpTicks}; o tempo que sobra é
+     * passado ao renderizador como fator de interpolação entre os dois últimos
+     * ticks. Os frames continuam a ser desenhados ao ritmo definido por
+     * {@link #setDelta(long)}, pelo que podem cair vários frames entre dois
+     * ticks.
+     * </p>
+     *
+     * @param stepMillis      Duração de cada tick, em milissegundos. Um valor
+     *                        {@code <= 0} desativa o modo de passo fixo.
+     * @param maxCatchUpTicks Número máximo de ticks executados num só frame
+     *                        para recuperar atrasos.
+     */
+    public void setFixedStep(long stepMillis, int maxCatchUpTicks);
+
+    /**
+     * Retorna o tempo que a interface gráfica demorou a desenhar e apresentar
+     * o último frame, medido pelo ciclo da engine. O ciclo nunca começa um
+     * frame novo antes de passar este tempo, mesmo que {@code delta} seja
+     * menor.
+     *
+     * @return O tempo, em nanossegundos.
+     * @see IGameUI#presentNanos()
+     */
+    public long presentNanos();
 }
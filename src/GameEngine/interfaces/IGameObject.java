@@ -58,6 +58,41 @@ public interface IGameObject {
      */
     public IBehaviour behaviour();
 
+    /**
+     * Retorna o corpo rígido associado a este objeto, se existir.
+     * 
+     * @return {@code IRigidBody} deste objeto, ou {@code null} se o objeto não
+     *         for simulado pelo mundo físico.
+     */
+    public IRigidBody rigidBody();
+
+    /**
+     * Associa um corpo rígido a este objeto, passando este a ser movido e
+     * separado dos outros objetos pelo mundo físico da engine.
+     * 
+     * @param body Corpo rígido, ou {@code null} para deixar de o simular.
+     */
+    public void rigidBody(IRigidBody body);
+
+    /**
+     * Verifica se este objeto é estático, isto é, se faz parte do cenário e
+     * só muda de posição muito raramente.
+     *
+     * @return {@code true} se o objeto for estático.
+     */
+    public boolean isStatic();
+
+    /**
+     * Marca este objeto como estático ou dinâmico. A broadphase guarda os
+     * objetos estáticos numa estrutura à parte, que só é reconstruída quando
+     * um deles muda, e nunca gera pares entre dois objetos estáticos. Um
+     * objeto estático pode ser movido, mas cada movimento obriga a essa
+     * reconstrução.
+     *
+     * @param isStatic {@code true} para marcar o objeto como estático.
+     */
+    public void setStatic(boolean isStatic);
+
     /**
      * Verifica se este objeto está em colisão com outro.
      * 
@@ -81,4 +116,20 @@ public interface IGameObject {
      * Destroi este objeto, removendo-o permanentemente da engine.
      */
     void destroy();
+
+    /**
+     * Retorna a posição (slot) deste objeto na lista da engine em que se
+     * encontra, ou {@code -1} se não pertencer a nenhuma.
+     *
+     * @return Índice do slot ocupado pelo objeto.
+     */
+    int slot();
+
+    /**
+     * Define o slot deste objeto. Usado apenas pela engine quando o objeto é
+     * inserido, movido ou removido das suas listas.
+     *
+     * @param index Novo índice do slot, ou {@code -1}.
+     */
+    void slot(int index);
 }
@@ -1,5 +1,6 @@
 package GameEngine.interfaces;
 
+import GameEngine.core.SnapshotRing;
 import java.util.List;
 
 /**
@@ -70,6 +71,36 @@ public interface IGameUI {
      */
     public void render();
 
+    /**
+     * Renderiza todos os objetos, interpolando o seu estado entre o tick
+     * anterior e o tick atual.
+     *
+     * @param alpha Fator de interpolação entre {@code 0} (estado do tick
+     *              anterior) e {@code 1} (estado atual).
+     */
+    public void render(double alpha);
+
+    /**
+     * Retorna o anel de snapshots para onde a engine deve copiar o estado de
+     * desenho antes de cada chamada a {@link #render(double)}, se a interface
+     * desenhar a partir de snapshots em vez de ler os objetos.
+     *
+     * @return O anel de snapshots, ou {@code null} se a interface ler os
+     *         objetos diretamente.
+     */
+    public SnapshotRing snapshots();
+
+    /**
+     * Retorna o tempo que a última chamada a {@link #render(double)} demorou.
+     * Com renderização ativa inclui desenhar e apresentar o frame; caso
+     * contrário apenas o pedido de pintura, já que o frame é desenhado mais
+     * tarde pela thread do Swing. Com uma thread de desenho própria, é o tempo
+     * do último frame que essa thread apresentou.
+     *
+     * @return O tempo, em nanossegundos.
+     */
+    public long presentNanos();
+
     //TODO comentar isto
     public int getHeight();
 
@@ -0,0 +1,44 @@
+package GameEngine.interfaces;
+
+/**
+ * Interface que representa um molde (prefab) a partir do qual são criados
+ * objetos de jogo ({@link IGameObject}) iguais entre si, por exemplo todos os
+ * inimigos de um certo tipo.
+ *
+ * <p>
+ * Os objetos de um prefab são geridos pelo {@link GameEngine.core.PrefabPool}
+ * da engine: são criados com {@link #instantiate()} apenas quando o pool não
+ * tem nenhum livre, e voltam ao pool quando são destruídos, em vez de serem
+ * deixados para o garbage collector.
+ * </p>
+ *
+ * <p>
+ * Como a mesma instância pode ser entregue várias vezes, o seu comportamento
+ * recebe {@link IBehaviour#onInit()} apenas da primeira vez que entra na
+ * engine e {@link IBehaviour#onEnable()} de cada vez que é reutilizada; é aí
+ * que deve repor o seu estado (vida, temporizadores, animação).
+ * </p>
+ *
+ * @see GameEngine.interfaces.IGameEngine#prefabs()
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public interface IPrefab {
+
+    /**
+     * Cria um novo objeto a partir deste prefab.
+     *
+     * <p>
+     * O objeto criado não deve ser adicionado nem ativado na engine (por
+     * exemplo, construindo o {@code GameObject} com {@code enabled} a
+     * {@code false}); é o pool que o faz quando o entrega.
+     * </p>
+     *
+     * @return Novo objeto de jogo.
+     */
+    public IGameObject instantiate();
+}
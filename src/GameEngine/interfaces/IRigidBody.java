@@ -0,0 +1,98 @@
+package GameEngine.interfaces;
+
+import GameEngine.core.utils.Vector;
+
+/**
+ * Interface que representa um corpo rígido, isto é, o componente que faz um
+ * objeto de jogo ({@link IGameObject}) ser movido e separado dos outros pelo
+ * mundo físico da engine.
+ *
+ * <p>
+ * Objetos com collider mas sem corpo rígido são tratados pelo mundo físico
+ * como obstáculos estáticos: empurram os corpos rígidos mas nunca são
+ * empurrados. Um corpo com massa infinita ({@code inverseMass() == 0}) tem o
+ * mesmo comportamento, mas continua a ser movido pela sua velocidade.
+ * </p>
+ *
+ * <p>
+ * Corpos que ficam parados durante algum tempo adormecem: deixam de ser
+ * integrados e resolvidos até que algo lhes toque, lhes seja aplicado um
+ * impulso ou o seu transform seja alterado.
+ * </p>
+ *
+ * @see GameEngine.core.physics.RigidBody
+ * @see GameEngine.core.physics.PhysicsWorld
+ *
+ * @author Raquel Nunes, a83883
+ * @author David Silvestre, a83938
+ * @author Francisco Melo, a84085
+ *
+ * @version 18-10-2026
+ */
+public interface IRigidBody {
+
+    /**
+     * Retorna a massa do corpo.
+     *
+     * @return Massa do corpo, ou {@link Double#POSITIVE_INFINITY} se for
+     *         imóvel.
+     */
+    public double mass();
+
+    /**
+     * Retorna o inverso da massa do corpo, usado pelo solver.
+     *
+     * @return Inverso da massa, ou {@code 0} se o corpo for imóvel.
+     */
+    public double inverseMass();
+
+    /**
+     * Retorna a velocidade do corpo, em unidades por segundo. O vetor devolvido
+     * é o estado interno do corpo; alterá-lo diretamente não acorda o corpo.
+     *
+     * @return Velocidade do corpo.
+     */
+    public Vector velocity();
+
+    /**
+     * Define a velocidade do corpo e acorda-o.
+     *
+     * @param vx Componente {@code x} da velocidade.
+     * @param vy Componente {@code y} da velocidade.
+     */
+    public void velocity(double vx, double vy);
+
+    /**
+     * Aplica um impulso ao centro do corpo e acorda-o.
+     *
+     * @param jx Componente {@code x} do impulso.
+     * @param jy Componente {@code y} do impulso.
+     */
+    public void applyImpulse(double jx, double jy);
+
+    /**
+     * Retorna o coeficiente de restituição (elasticidade) do corpo.
+     *
+     * @return Valor entre {@code 0} (sem ressalto) e {@code 1}.
+     */
+    public double restitution();
+
+    /**
+     * Retorna o coeficiente de atrito do corpo.
+     *
+     * @return Coeficiente de atrito.
+     */
+    public double friction();
+
+    /**
+     * Verifica se o corpo está a dormir.
+     *
+     * @return {@code true} se o corpo estiver a dormir.
+     */
+    public boolean isSleeping();
+
+    /**
+     * Acorda o corpo, caso esteja a dormir.
+     */
+    public void wake();
+}
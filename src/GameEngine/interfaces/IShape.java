@@ -1,6 +1,7 @@
 package GameEngine.interfaces;
 
 import GameEngine.core.utils.Point;
+import GameEngine.gui.loader.AtlasRegion;
 import java.awt.Image;
 
 /**
@@ -43,4 +44,29 @@ public interface IShape {
     public void nextFrame();
 
     public void setFrame(int frame, boolean mirrored); //TODO comentar isto
+
+    /**
+     * Retorna a imagem do frame atual tal como foi carregada, sem o espelho
+     * aplicado; quem a desenha deve espelhá-la se {@link #isMirrored()}.
+     *
+     * @return A imagem do frame atual.
+     */
+    public Image getFrame();
+
+    /**
+     * Indica se o frame atual deve ser desenhado espelhado na horizontal.
+     *
+     * @return {@code true} se o frame estiver espelhado.
+     */
+    public boolean isMirrored();
+
+    /**
+     * Retorna a região do frame atual numa página de atlas ou sprite sheet,
+     * resolvida quando os frames foram carregados, para que quem desenha não
+     * a tenha de procurar em cada frame.
+     *
+     * @return A região do frame atual, ou {@code null} se o frame não for
+     *         uma região de uma página.
+     */
+    public AtlasRegion getRegion();
 }
@@ -75,4 +75,72 @@ public interface ITransform {
      * @return Escala como valor decimal (ex: 1.0 é tamanho original).
      */
     double scale();
+
+    /**
+     * Guarda o estado atual (posição, ângulo e escala) como o estado do tick
+     * anterior. A engine chama este método no início de cada tick, para que a
+     * renderização possa interpolar entre os dois últimos estados.
+     *
+     * <p>
+     * Pode também ser chamado depois de um teletransporte, para evitar que o
+     * objeto seja desenhado a deslizar entre as duas posições.
+     * </p>
+     */
+    void storePrevious();
+
+    /**
+     * Retorna a posição guardada no início do tick anterior.
+     *
+     * @return {@code Point} representando a posição anterior.
+     */
+    Point getPreviousPosition();
+
+    /**
+     * Retorna o ângulo guardado no início do tick anterior.
+     *
+     * @return Valor em graus da rotação anterior.
+     */
+    double previousAngle();
+
+    /**
+     * Retorna a escala guardada no início do tick anterior.
+     *
+     * @return Escala anterior.
+     */
+    double previousScale();
+
+    /**
+     * Retorna a matriz 2x3 que leva coordenadas locais do objeto para o mundo,
+     * pela ordem {@code {m00, m01, m02, m10, m11, m12}}:
+     *
+     * <pre>
+     * x' = m00 * x + m01 * y + m02
+     * y' = m10 * x + m11 * y + m12
+     * </pre>
+     *
+     * <p>
+     * A matriz aplica a escala, depois a rotação e por fim a translação para
+     * a posição atual. A parte linear só é recalculada quando o ângulo ou a
+     * escala mudam. O array é partilhado e não deve ser alterado.
+     * </p>
+     *
+     * @return Matriz local-mundo atual.
+     */
+    double[] matrix();
+
+    /**
+     * Retorna um contador de alterações que aumenta sempre que a posição, a
+     * camada, o ângulo ou a escala mudam. Enquanto o valor não mudar, tudo o
+     * que foi calculado a partir deste {@code ITransform} (collider, caixas da
+     * broadphase, camada de renderização) continua válido.
+     *
+     * <p>
+     * A posição também pode ser alterada diretamente através de
+     * {@link #getPosition()}; essa alteração é detetada na chamada seguinte a
+     * este método.
+     * </p>
+     *
+     * @return Versão atual, nunca menor do que a retornada anteriormente.
+     */
+    long version();
 }